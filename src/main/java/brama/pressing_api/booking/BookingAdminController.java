@@ -3,18 +3,22 @@ package brama.pressing_api.booking;
 import brama.pressing_api.booking.domain.model.BookingPaymentStatus;
 import brama.pressing_api.booking.domain.model.BookingStatus;
 import brama.pressing_api.booking.dto.request.AdminCreateBookingRequest;
+import brama.pressing_api.booking.dto.request.BulkCreateBookingRequest;
 import brama.pressing_api.booking.dto.request.RecordBookingPaymentRequest;
 import brama.pressing_api.booking.dto.request.UpdateBookingStatusRequest;
 import brama.pressing_api.booking.dto.response.BookingAdminStatsResponse;
 import brama.pressing_api.booking.dto.response.BookingResponse;
+import brama.pressing_api.booking.dto.response.BulkCreateBookingResponse;
 import brama.pressing_api.booking.service.BookingService;
 import brama.pressing_api.booking.service.BookingSearchCriteria;
+import brama.pressing_api.common.CursorPageResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -26,8 +30,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Admin endpoints to list and update booking status.
@@ -63,6 +69,29 @@ public class BookingAdminController {
         return bookingService.listAdmin(pageable);
     }
 
+    /**
+     * Lists bookings newest first with keyset pagination; omit {@code after} for the first page, then pass the
+     * previous page's {@code nextCursor}. The total is only computed when {@code includeTotal} is set.
+     */
+    @GetMapping("/cursor")
+    public CursorPageResponse<BookingResponse> listBookingsAfter(@RequestParam(required = false) String after,
+                                                                 @RequestParam(defaultValue = "20") int size,
+                                                                 @RequestParam(defaultValue = "false") boolean includeTotal,
+                                                                 @RequestParam(required = false) String query,
+                                                                 @RequestParam(required = false) BookingStatus status,
+                                                                 @RequestParam(required = false) BookingPaymentStatus paymentStatus,
+                                                                 @RequestParam(required = false) LocalDate startDate,
+                                                                 @RequestParam(required = false) LocalDate endDate) {
+        BookingSearchCriteria criteria = BookingSearchCriteria.builder()
+                .query(query)
+                .status(status)
+                .paymentStatus(paymentStatus)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+        return bookingService.searchAdminAfter(criteria, after, size, includeTotal);
+    }
+
     /**
      * Creates a booking on behalf of a customer.
      */
@@ -72,6 +101,15 @@ public class BookingAdminController {
         return bookingService.createAdmin(request, getUserId(authentication));
     }
 
+    /**
+     * Creates up to 500 bookings on behalf of customers in one request and reports the outcome of each entry.
+     */
+    @PostMapping("/bulk")
+    public BulkCreateBookingResponse createBookings(@Valid @RequestBody BulkCreateBookingRequest request,
+                                                    final Authentication authentication) {
+        return bookingService.createAdminBulk(request.getBookings(), getUserId(authentication));
+    }
+
     /**
      * Records a manual payment for a booking.
      */
@@ -91,14 +129,15 @@ public class BookingAdminController {
     }
 
     /**
-     * Exports bookings to CSV using the same filters as list.
+     * Streams bookings as CSV using the same filters as list, gzip-compressed when requested.
      */
     @GetMapping("/export")
-    public ResponseEntity<String> exportCsv(@RequestParam(required = false) String query,
-                                            @RequestParam(required = false) BookingStatus status,
-                                            @RequestParam(required = false) BookingPaymentStatus paymentStatus,
-                                            @RequestParam(required = false) LocalDate startDate,
-                                            @RequestParam(required = false) LocalDate endDate) {
+    public ResponseEntity<StreamingResponseBody> exportCsv(@RequestParam(required = false) String query,
+                                                           @RequestParam(required = false) BookingStatus status,
+                                                           @RequestParam(required = false) BookingPaymentStatus paymentStatus,
+                                                           @RequestParam(required = false) LocalDate startDate,
+                                                           @RequestParam(required = false) LocalDate endDate,
+                                                           @RequestParam(defaultValue = "false") boolean gzip) {
         BookingSearchCriteria criteria = BookingSearchCriteria.builder()
                 .query(query)
                 .status(status)
@@ -106,10 +145,20 @@ public class BookingAdminController {
                 .startDate(startDate)
                 .endDate(endDate)
                 .build();
-        String csv = bookingService.exportCsv(criteria);
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(outputStream);
+                bookingService.exportCsv(criteria, compressed);
+                compressed.finish();
+            } else {
+                bookingService.exportCsv(criteria, outputStream);
+            }
+        };
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=bookings.csv")
-                .body(csv);
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=" + (gzip ? "bookings.csv.gz" : "bookings.csv"))
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : MediaType.parseMediaType("text/csv"))
+                .body(body);
     }
 
     /**
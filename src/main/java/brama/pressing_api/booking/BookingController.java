@@ -2,7 +2,10 @@ package brama.pressing_api.booking;
 
 import brama.pressing_api.booking.dto.request.CreateBookingRequest;
 import brama.pressing_api.booking.dto.response.BookingResponse;
+import brama.pressing_api.booking.dto.response.BookingSummaryResponse;
 import brama.pressing_api.booking.service.BookingService;
+import brama.pressing_api.common.CursorPageResponse;
+import brama.pressing_api.idempotency.service.IdempotencyService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -12,7 +15,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -26,13 +31,18 @@ import java.util.List;
 @Tag(name = "Bookings", description = "Customer bookings")
 public class BookingController {
     private final BookingService bookingService;
+    private final IdempotencyService idempotencyService;
 
     /**
-     * Creates a booking for the authenticated user.
+     * Creates a booking for the authenticated user. Retries sent with the same Idempotency-Key get the first result.
      */
     @PostMapping
-    public ResponseEntity<BookingResponse> createBooking(@Valid @RequestBody CreateBookingRequest request) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(bookingService.create(request));
+    public ResponseEntity<BookingResponse> createBooking(@Valid @RequestBody CreateBookingRequest request,
+                                                         @RequestHeader(value = IdempotencyService.HEADER, required = false)
+                                                         String idempotencyKey) {
+        BookingResponse response = idempotencyService.execute("booking.create", idempotencyKey, request,
+                BookingResponse.class, () -> bookingService.create(request));
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     /**
@@ -43,6 +53,17 @@ public class BookingController {
         return bookingService.listMyBookings();
     }
 
+    /**
+     * Lists the authenticated user's bookings as list cards, newest start date first. Omit {@code after} for the
+     * first page, then pass the previous page's {@code nextCursor}; details come from {@code GET /{id}}.
+     */
+    @GetMapping("/summaries")
+    public CursorPageResponse<BookingSummaryResponse> listMyBookingSummaries(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        return bookingService.listMyBookingSummaries(after, size);
+    }
+
     /**
      * Returns a single booking owned by the authenticated user.
      */
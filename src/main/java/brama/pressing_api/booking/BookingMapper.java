@@ -9,6 +9,7 @@ import brama.pressing_api.booking.dto.request.DriverDetailsRequest;
 import brama.pressing_api.booking.dto.response.BookingExtraResponse;
 import brama.pressing_api.booking.dto.response.BookingPricingResponse;
 import brama.pressing_api.booking.dto.response.BookingResponse;
+import brama.pressing_api.booking.dto.response.BookingSummaryResponse;
 import brama.pressing_api.booking.dto.response.DriverDetailsResponse;
 
 import java.util.Collections;
@@ -46,6 +47,21 @@ public final class BookingMapper {
                 .build();
     }
 
+    public static BookingSummaryResponse toSummaryResponse(final Booking booking) {
+        BookingPricing pricing = booking.getPricing();
+        return BookingSummaryResponse.builder()
+                .id(booking.getId())
+                .vehicleId(booking.getVehicleId())
+                .vehicleName(booking.getVehicleName())
+                .startDate(booking.getStartDate())
+                .endDate(booking.getEndDate())
+                .status(booking.getStatus())
+                .paymentStatus(booking.getPaymentStatus())
+                .total(pricing != null ? pricing.getTotal() : null)
+                .currency(pricing != null ? pricing.getCurrency() : null)
+                .build();
+    }
+
     public static BookingResponse toResponse(final Booking booking) {
         return BookingResponse.builder()
                 .id(booking.getId())
@@ -74,7 +90,7 @@ public final class BookingMapper {
                 .build();
     }
 
-    private static BookingPricingResponse toPricingResponse(final BookingPricing pricing) {
+    public static BookingPricingResponse toPricingResponse(final BookingPricing pricing) {
         if (pricing == null) {
             return null;
         }
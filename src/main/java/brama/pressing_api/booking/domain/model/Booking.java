@@ -6,6 +6,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
@@ -20,6 +22,14 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @SuperBuilder
+@CompoundIndexes({
+        @CompoundIndex(name = "vehicle_status_dates_idx",
+                def = "{'vehicle_id': 1, 'status': 1, 'start_date': 1, 'end_date': 1}"),
+        @CompoundIndex(name = "created_date_id_idx", def = "{'created_date': -1, '_id': -1}"),
+        @CompoundIndex(name = "user_start_date_idx", def = "{'user_id': 1, 'start_date': -1, '_id': -1}"),
+        @CompoundIndex(name = "status_start_date_idx", def = "{'status': 1, 'start_date': 1}"),
+        @CompoundIndex(name = "status_end_date_idx", def = "{'status': 1, 'end_date': 1}")
+})
 public class Booking extends BaseDocument {
     @Field("user_id")
     @Indexed
@@ -85,4 +95,24 @@ public class Booking extends BaseDocument {
 
     @Field("promo_code")
     private String promoCode;
+
+    /**
+     * Id of the promotion redeemed for {@code promoCode}, whose use is given back when the booking is canceled.
+     */
+    @Field("promotion_id")
+    private String promotionId;
+
+    /**
+     * Lowercase trigrams and word prefixes of the searchable fields, maintained by BookingSearchIndexer.
+     */
+    @Field("search_tokens")
+    @Indexed
+    private List<String> searchTokens;
+
+    /**
+     * Id of the last bulk status transition that moved this booking, so the lifecycle job can read back
+     * exactly the bookings its update changed.
+     */
+    @Field("transition_id")
+    private String transitionId;
 }
\ No newline at end of file
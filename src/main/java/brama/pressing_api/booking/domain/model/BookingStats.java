@@ -0,0 +1,69 @@
+package brama.pressing_api.booking.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+import java.math.BigDecimal;
+
+/**
+ * Booking counts per status and payment status plus the collected / outstanding amounts.
+ * A single document of this collection is kept current with $inc as bookings change.
+ */
+@Document(collection = "booking_stats")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingStats {
+    public static final String GLOBAL_ID = "global";
+
+    @Id
+    private String id;
+
+    @Field("pending_count")
+    private long pendingCount;
+
+    @Field("confirmed_count")
+    private long confirmedCount;
+
+    @Field("active_count")
+    private long activeCount;
+
+    @Field("completed_count")
+    private long completedCount;
+
+    @Field("canceled_count")
+    private long canceledCount;
+
+    @Field("unpaid_count")
+    private long unpaidCount;
+
+    @Field("partial_count")
+    private long partialCount;
+
+    @Field("paid_count")
+    private long paidCount;
+
+    @Field("refunded_count")
+    private long refundedCount;
+
+    @Field(name = "collected_amount", targetType = FieldType.DECIMAL128)
+    private BigDecimal collectedAmount;
+
+    @Field(name = "pending_amount", targetType = FieldType.DECIMAL128)
+    private BigDecimal pendingAmount;
+
+    /**
+     * Bumped by every update, so a recount can be written only if nothing changed while it ran.
+     */
+    @Field("revision")
+    private long revision;
+}
@@ -0,0 +1,40 @@
+package brama.pressing_api.booking.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDate;
+
+/**
+ * One rental day of one vehicle held by a booking. The unique index is what makes
+ * two bookings of the same vehicle on the same day impossible.
+ */
+@Document(collection = "vehicle_day_claims")
+@CompoundIndex(name = "vehicle_day_unique_idx", def = "{'vehicle_id': 1, 'day': 1}", unique = true)
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class VehicleDayClaim {
+    @Id
+    private String id;
+
+    @Field("vehicle_id")
+    private String vehicleId;
+
+    @Field("day")
+    private LocalDate day;
+
+    @Field("booking_id")
+    @Indexed
+    private String bookingId;
+}
@@ -0,0 +1,23 @@
+package brama.pressing_api.booking.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateBookingRequest {
+    @NotEmpty
+    @Size(max = 500)
+    private List<@Valid AdminCreateBookingRequest> bookings;
+}
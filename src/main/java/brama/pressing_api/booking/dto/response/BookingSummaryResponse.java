@@ -0,0 +1,32 @@
+package brama.pressing_api.booking.dto.response;
+
+import brama.pressing_api.booking.domain.model.BookingPaymentStatus;
+import brama.pressing_api.booking.domain.model.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * List-card view of a booking; the full booking is served by the detail endpoint.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingSummaryResponse {
+    private String id;
+    private String vehicleId;
+    private String vehicleName;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private BookingStatus status;
+    private BookingPaymentStatus paymentStatus;
+    private BigDecimal total;
+    private String currency;
+}
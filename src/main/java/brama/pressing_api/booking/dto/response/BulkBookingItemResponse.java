@@ -0,0 +1,23 @@
+package brama.pressing_api.booking.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Outcome of one entry of a bulk booking request, matched to the request by {@code index}.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkBookingItemResponse {
+    private int index;
+    private boolean created;
+    private BookingResponse booking;
+    private String errorCode;
+    private String message;
+}
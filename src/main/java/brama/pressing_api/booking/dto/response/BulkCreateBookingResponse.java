@@ -0,0 +1,20 @@
+package brama.pressing_api.booking.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateBookingResponse {
+    private int createdCount;
+    private int failedCount;
+    private List<BulkBookingItemResponse> results;
+}
@@ -6,6 +6,7 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,13 @@ public interface BookingRepository extends MongoRepository<Booking, String>, Boo
 
     long countByStatus(BookingStatus status);
 
-    @Query(value = "{ 'start_date': { $lte: ?1 }, 'end_date': { $gte: ?0 }, 'status': { $in: ?2 } }")
-    List<Booking> findByOverlappingDates(LocalDate startDate, LocalDate endDate, List<BookingStatus> statuses);
+    @Query(value = "{ 'vehicle_id': ?0, 'status': { $in: ?3 }, 'start_date': { $lte: ?2 }, 'end_date': { $gte: ?1 } }",
+            exists = true)
+    boolean existsOverlappingForVehicle(String vehicleId,
+                                        LocalDate startDate,
+                                        LocalDate endDate,
+                                        Collection<BookingStatus> statuses);
+
+    @Query(value = "{ '_id': { $in: ?0 }, 'promotion_id': { $ne: null } }", fields = "{ 'promotion_id': 1 }")
+    List<Booking> findPromotionIdsByIdIn(Collection<String> ids);
 }
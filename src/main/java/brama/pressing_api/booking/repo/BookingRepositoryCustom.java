@@ -1,10 +1,65 @@
 package brama.pressing_api.booking.repo;
 
 import brama.pressing_api.booking.domain.model.Booking;
+import brama.pressing_api.booking.domain.model.BookingStats;
+import brama.pressing_api.booking.domain.model.BookingStatus;
 import brama.pressing_api.booking.service.BookingSearchCriteria;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BookingRepositoryCustom {
     Page<Booking> search(BookingSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Keyset page of the search ordered by created date then id, both descending, starting strictly
+     * after the given (createdDate, id) position, or from the top when no position is given.
+     */
+    List<Booking> searchAfter(BookingSearchCriteria criteria, LocalDateTime createdDate, String id, int limit);
+
+    /**
+     * Total for the search; uses the collection's estimated count when no filter is set.
+     */
+    long countForSearch(BookingSearchCriteria criteria);
+
+    /**
+     * A user's bookings ordered by start date then id, both descending, after the given (startDate, id)
+     * position, with only the list-card fields populated.
+     */
+    List<Booking> findUserSummariesAfter(String userId, LocalDate startDate, String id, int limit);
+
+    /**
+     * Streams bookings matching the search filters with only the CSV export columns populated.
+     */
+    Stream<Booking> streamForExport(BookingSearchCriteria criteria);
+
+    /**
+     * Streams bookings in the given statuses with only id, vehicle id, dates and status populated.
+     */
+    Stream<Booking> streamReservations(Collection<BookingStatus> statuses);
+
+    /**
+     * Moves up to {@code limit} bookings in status {@code from} that also match {@code window} to status {@code to}
+     * with one multi-document update, and returns the ids of the bookings that were moved.
+     */
+    List<String> transitionStatus(BookingStatus from, BookingStatus to, Criteria window, int limit);
+
+    /**
+     * Applies {@code update} to the booking only while its status is still {@code expected}, and returns the
+     * updated booking, or empty when the booking is gone or its status changed since it was read.
+     */
+    Optional<Booking> updateIfStatus(String id, BookingStatus expected, Update update);
+
+    /**
+     * Computes status counts, payment status counts and amounts server-side in one aggregation.
+     */
+    BookingStats aggregateStats();
 }
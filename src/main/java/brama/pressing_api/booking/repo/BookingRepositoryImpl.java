@@ -1,41 +1,138 @@
 package brama.pressing_api.booking.repo;
 
 import brama.pressing_api.booking.domain.model.Booking;
+import brama.pressing_api.booking.domain.model.BookingPaymentStatus;
+import brama.pressing_api.booking.domain.model.BookingStats;
+import brama.pressing_api.booking.domain.model.BookingStatus;
 import brama.pressing_api.booking.service.BookingSearchCriteria;
+import brama.pressing_api.booking.service.BookingSearchTokens;
+import brama.pressing_api.common.Money;
+import com.mongodb.client.result.UpdateResult;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 public class BookingRepositoryImpl implements BookingRepositoryCustom {
+    private static final int EXPORT_BATCH_SIZE = 1000;
+
     private final MongoTemplate mongoTemplate;
 
     @Override
     public Page<Booking> search(final BookingSearchCriteria criteria, final Pageable pageable) {
+        Query query = buildSearchQuery(criteria);
+        long total = mongoTemplate.count(query, Booking.class);
+        List<Booking> results = mongoTemplate.find(query.with(pageable), Booking.class);
+        return new PageImpl<>(results, pageable, total);
+    }
+
+    @Override
+    public Stream<Booking> streamForExport(final BookingSearchCriteria criteria) {
+        Query query = buildSearchQuery(criteria);
+        query.fields().include("customer_name", "customer_email", "customer_phone", "vehicle_name",
+                "start_date", "end_date", "status", "payment_status", "pricing.total", "paid_amount",
+                "booking_created_by", "created_date");
+        query.cursorBatchSize(EXPORT_BATCH_SIZE);
+        return mongoTemplate.stream(query, Booking.class);
+    }
+
+    @Override
+    public List<Booking> searchAfter(final BookingSearchCriteria criteria,
+                                     final LocalDateTime createdDate,
+                                     final String id,
+                                     final int limit) {
+        List<Criteria> filters = buildSearchFilters(criteria);
+        if (createdDate != null && id != null) {
+            filters.add(new Criteria().orOperator(
+                    Criteria.where("created_date").lt(createdDate),
+                    new Criteria().andOperator(
+                            Criteria.where("created_date").is(createdDate),
+                            Criteria.where("_id").lt(id))
+            ));
+        }
+        Query query = toQuery(filters)
+                .with(Sort.by(Sort.Order.desc("created_date"), Sort.Order.desc("_id")))
+                .limit(limit);
+        return mongoTemplate.find(query, Booking.class);
+    }
+
+    @Override
+    public long countForSearch(final BookingSearchCriteria criteria) {
+        List<Criteria> filters = buildSearchFilters(criteria);
+        if (filters.isEmpty()) {
+            return mongoTemplate.estimatedCount(Booking.class);
+        }
+        return mongoTemplate.count(toQuery(filters), Booking.class);
+    }
+
+    @Override
+    public List<Booking> findUserSummariesAfter(final String userId,
+                                                final LocalDate startDate,
+                                                final String id,
+                                                final int limit) {
+        List<Criteria> filters = new ArrayList<>();
+        filters.add(Criteria.where("user_id").is(userId));
+        // A cursor without a date comes from the reservation timeline, where undated entries sort last.
+        if (id != null && startDate != null) {
+            filters.add(new Criteria().orOperator(
+                    Criteria.where("start_date").lt(startDate),
+                    new Criteria().andOperator(
+                            Criteria.where("start_date").is(startDate),
+                            Criteria.where("_id").lt(id)),
+                    Criteria.where("start_date").is(null)
+            ));
+        } else if (id != null) {
+            filters.add(Criteria.where("start_date").is(null));
+            filters.add(Criteria.where("_id").lt(id));
+        }
+        Query query = toQuery(filters)
+                .with(Sort.by(Sort.Order.desc("start_date"), Sort.Order.desc("_id")))
+                .limit(limit);
+        query.fields().include("vehicle_id", "vehicle_name", "start_date", "end_date", "status", "payment_status",
+                "pricing.total", "pricing.currency");
+        return mongoTemplate.find(query, Booking.class);
+    }
+
+    private Query buildSearchQuery(final BookingSearchCriteria criteria) {
+        return toQuery(buildSearchFilters(criteria));
+    }
+
+    private Query toQuery(final List<Criteria> filters) {
         Query query = new Query();
+        if (!filters.isEmpty()) {
+            query.addCriteria(new Criteria().andOperator(filters.toArray(new Criteria[0])));
+        }
+        return query;
+    }
+
+    private List<Criteria> buildSearchFilters(final BookingSearchCriteria criteria) {
         List<Criteria> filters = new ArrayList<>();
 
         if (criteria != null) {
             if (criteria.getQuery() != null && !criteria.getQuery().isBlank()) {
-                String regex = ".*" + Pattern.quote(criteria.getQuery().trim()) + ".*";
-                filters.add(new Criteria().orOperator(
-                        Criteria.where("_id").regex(regex, "i"),
-                        Criteria.where("customer_name").regex(regex, "i"),
-                        Criteria.where("customer_email").regex(regex, "i"),
-                        Criteria.where("customer_phone").regex(regex, "i"),
-                        Criteria.where("vehicle_name").regex(regex, "i"),
-                        Criteria.where("notes").regex(regex, "i"),
-                        Criteria.where("promo_code").regex(regex, "i")
-                ));
+                filters.add(textFilter(criteria.getQuery().trim()));
             }
             if (criteria.getStatus() != null) {
                 filters.add(Criteria.where("status").is(criteria.getStatus()));
@@ -53,12 +150,138 @@ public class BookingRepositoryImpl implements BookingRepositoryCustom {
             }
         }
 
-        if (!filters.isEmpty()) {
-            query.addCriteria(new Criteria().andOperator(filters.toArray(new Criteria[0])));
+        return filters;
+    }
+
+    /**
+     * A booking id is matched exactly. Any other query must carry all of its search tokens (multikey index),
+     * and the substring regex only re-checks that narrowed candidate set to drop trigram false positives.
+     * A query with no letter or digit has no tokens and falls back to the regex alone.
+     */
+    private Criteria textFilter(final String text) {
+        if (ObjectId.isValid(text)) {
+            return Criteria.where("_id").is(text);
+        }
+        String regex = ".*" + Pattern.quote(text) + ".*";
+        Criteria substring = new Criteria().orOperator(
+                Criteria.where("customer_name").regex(regex, "i"),
+                Criteria.where("customer_email").regex(regex, "i"),
+                Criteria.where("customer_phone").regex(regex, "i"),
+                Criteria.where("vehicle_name").regex(regex, "i"),
+                Criteria.where("notes").regex(regex, "i"),
+                Criteria.where("promo_code").regex(regex, "i"));
+        Set<String> tokens = BookingSearchTokens.forQuery(text);
+        if (tokens.isEmpty()) {
+            return substring;
         }
+        return new Criteria().andOperator(Criteria.where("search_tokens").all(tokens), substring);
+    }
 
-        long total = mongoTemplate.count(query, Booking.class);
-        List<Booking> results = mongoTemplate.find(query.with(pageable), Booking.class);
-        return new PageImpl<>(results, pageable, total);
+    @Override
+    public Stream<Booking> streamReservations(final Collection<BookingStatus> statuses) {
+        Query query = new Query(Criteria.where("status").in(statuses));
+        query.fields().include("vehicle_id", "start_date", "end_date", "status");
+        return mongoTemplate.stream(query, Booking.class);
+    }
+
+    @Override
+    public List<String> transitionStatus(final BookingStatus from,
+                                         final BookingStatus to,
+                                         final Criteria window,
+                                         final int limit) {
+        Query candidates = new Query(new Criteria().andOperator(Criteria.where("status").is(from), window)).limit(limit);
+        candidates.fields().include("_id");
+        List<String> ids = mongoTemplate.find(candidates, Booking.class).stream().map(Booking::getId).toList();
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        // The status guard keeps a booking changed since the read from being moved a second time; the
+        // transition id tells the bookings this update moved from those another writer moved to the same status.
+        String transitionId = new ObjectId().toHexString();
+        Query guarded = new Query(new Criteria().andOperator(
+                Criteria.where("_id").in(ids),
+                Criteria.where("status").is(from)));
+        Update update = new Update().set("status", to).set("transition_id", transitionId)
+                .currentDate("last_modified_date");
+        UpdateResult result = mongoTemplate.updateMulti(guarded, update, Booking.class);
+        if (result.getModifiedCount() == ids.size()) {
+            return ids;
+        }
+        Query moved = new Query(new Criteria().andOperator(
+                Criteria.where("_id").in(ids),
+                Criteria.where("transition_id").is(transitionId)));
+        moved.fields().include("_id");
+        return mongoTemplate.find(moved, Booking.class).stream().map(Booking::getId).toList();
+    }
+
+    @Override
+    public Optional<Booking> updateIfStatus(final String id, final BookingStatus expected, final Update update) {
+        Query guarded = new Query(new Criteria().andOperator(
+                Criteria.where("_id").is(id),
+                Criteria.where("status").is(expected)));
+        return Optional.ofNullable(mongoTemplate.findAndModify(guarded, update.currentDate("last_modified_date"),
+                FindAndModifyOptions.options().returnNew(true), Booking.class));
+    }
+
+    @Override
+    public BookingStats aggregateStats() {
+        // Amounts may be stored as strings or decimals depending on the BigDecimal mapping, so normalize them.
+        Document paid = new Document("$toDecimal", new Document("$ifNull", List.of("$paid_amount", "0")));
+        Document total = new Document("$toDecimal", new Document("$ifNull", List.of("$pricing.total", "0")));
+        Document group = new Document("_id", new Document("status", "$status").append("payment_status", "$payment_status"))
+                .append("count", new Document("$sum", 1))
+                .append("collected", new Document("$sum", paid))
+                .append("pending", new Document("$sum",
+                        new Document("$max", List.of(new Document("$subtract", List.of(total, paid)), 0))));
+
+        List<Document> rows = mongoTemplate.aggregate(
+                Aggregation.newAggregation(context -> new Document("$group", group)),
+                "bookings",
+                Document.class).getMappedResults();
+
+        BookingStats stats = new BookingStats();
+        long collected = 0L;
+        long pending = 0L;
+        for (Document row : rows) {
+            Document key = row.get("_id", Document.class);
+            long count = ((Number) row.get("count")).longValue();
+            String status = key.getString("status");
+            String paymentStatus = key.getString("payment_status");
+            if (BookingStatus.PENDING.name().equals(status)) {
+                stats.setPendingCount(stats.getPendingCount() + count);
+            } else if (BookingStatus.CONFIRMED.name().equals(status)) {
+                stats.setConfirmedCount(stats.getConfirmedCount() + count);
+            } else if (BookingStatus.ACTIVE.name().equals(status)) {
+                stats.setActiveCount(stats.getActiveCount() + count);
+            } else if (BookingStatus.COMPLETED.name().equals(status)) {
+                stats.setCompletedCount(stats.getCompletedCount() + count);
+            } else if (BookingStatus.CANCELED.name().equals(status)) {
+                stats.setCanceledCount(stats.getCanceledCount() + count);
+            }
+            if (BookingPaymentStatus.UNPAID.name().equals(paymentStatus)) {
+                stats.setUnpaidCount(stats.getUnpaidCount() + count);
+            } else if (BookingPaymentStatus.PARTIAL.name().equals(paymentStatus)) {
+                stats.setPartialCount(stats.getPartialCount() + count);
+            } else if (BookingPaymentStatus.PAID.name().equals(paymentStatus)) {
+                stats.setPaidCount(stats.getPaidCount() + count);
+            } else if (BookingPaymentStatus.REFUNDED.name().equals(paymentStatus)) {
+                stats.setRefundedCount(stats.getRefundedCount() + count);
+            }
+            collected += Money.toMinorUnits(toBigDecimal(row.get("collected")));
+            pending += Money.toMinorUnits(toBigDecimal(row.get("pending")));
+        }
+        stats.setCollectedAmount(Money.toBigDecimal(collected));
+        stats.setPendingAmount(Money.toBigDecimal(pending));
+        return stats;
+    }
+
+    private BigDecimal toBigDecimal(final Object value) {
+        if (value instanceof Decimal128 decimal) {
+            return decimal.bigDecimalValue();
+        }
+        if (value instanceof Number || value instanceof String) {
+            return new BigDecimal(value.toString());
+        }
+        return BigDecimal.ZERO;
     }
 }
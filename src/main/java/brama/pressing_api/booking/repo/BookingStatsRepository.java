@@ -0,0 +1,7 @@
+package brama.pressing_api.booking.repo;
+
+import brama.pressing_api.booking.domain.model.BookingStats;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface BookingStatsRepository extends MongoRepository<BookingStats, String> {
+}
@@ -0,0 +1,12 @@
+package brama.pressing_api.booking.repo;
+
+import brama.pressing_api.booking.domain.model.VehicleDayClaim;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.Collection;
+
+public interface VehicleDayClaimRepository extends MongoRepository<VehicleDayClaim, String> {
+    long deleteByBookingId(String bookingId);
+
+    long deleteByBookingIdIn(Collection<String> bookingIds);
+}
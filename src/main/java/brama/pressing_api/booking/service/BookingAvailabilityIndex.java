@@ -0,0 +1,285 @@
+package brama.pressing_api.booking.service;
+
+import brama.pressing_api.booking.domain.model.Booking;
+import brama.pressing_api.booking.domain.model.BookingStatus;
+import brama.pressing_api.booking.repo.BookingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * In-memory per-vehicle index of the bookings that block a vehicle. {@link #BLOCKING_STATUSES} is the single
+ * definition of a blocking booking: day claims, the search filter and calendars all use it, and a PENDING
+ * booking holds its vehicle until it is confirmed, canceled or expired.
+ * Warmed at startup and kept current by the booking and payment services after every save,
+ * so availability checks and calendars are answered without a Mongo round-trip.
+ * <p>
+ * Each instance holds its own copy and only sees the writes it makes itself; with several replicas a copy
+ * lags behind writes made elsewhere until the next periodic rebuild
+ * ({@code app.booking-availability.rebuild-interval}).
+ * It is therefore a fast first check only: the {@code vehicle_day_claims} unique index is what prevents
+ * double bookings.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingAvailabilityIndex {
+    public static final Set<BookingStatus> BLOCKING_STATUSES = Collections.unmodifiableSet(
+            EnumSet.of(BookingStatus.PENDING, BookingStatus.CONFIRMED, BookingStatus.ACTIVE));
+
+    private final BookingRepository bookingRepository;
+
+    private final Object rebuildLock = new Object();
+
+    private volatile IndexState state = new IndexState();
+    private volatile boolean ready;
+    // Writes applied while a rebuild streams bookings, replayed onto the rebuilt state before it is swapped in.
+    // Non-null only during a rebuild; guarded by this.
+    private List<Consumer<IndexState>> pendingWrites;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.booking-availability.rebuild-interval:PT5M}",
+            initialDelayString = "${app.booking-availability.rebuild-interval:PT5M}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Reloads every blocking booking from Mongo into a new state and swaps it in with one assignment. The stream
+     * runs without holding the monitor, so {@link #apply} and {@link #remove} keep working meanwhile; the writes
+     * they make during the rebuild are replayed onto the new state just before the swap.
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                pendingWrites = new ArrayList<>();
+            }
+            IndexState rebuilt = new IndexState();
+            try (Stream<Booking> bookings = bookingRepository.streamReservations(BLOCKING_STATUSES)) {
+                bookings.forEach(rebuilt::put);
+            } catch (RuntimeException ex) {
+                synchronized (this) {
+                    pendingWrites = null;
+                }
+                throw ex;
+            }
+            synchronized (this) {
+                pendingWrites.forEach(write -> write.accept(rebuilt));
+                pendingWrites = null;
+                state = rebuilt;
+            }
+            ready = true;
+            log.info("Booking availability index loaded: {} reservations across {} vehicles",
+                    rebuilt.reservations.size(), rebuilt.schedules.size());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Records the current state of a booking, replacing whatever the index held for it before.
+     */
+    public synchronized void apply(final Booking booking) {
+        if (booking == null || booking.getId() == null) {
+            return;
+        }
+        record(target -> {
+            target.remove(booking.getId());
+            target.put(booking);
+        });
+    }
+
+    public synchronized void remove(final String bookingId) {
+        if (bookingId != null) {
+            record(target -> target.remove(bookingId));
+        }
+    }
+
+    private void record(final Consumer<IndexState> write) {
+        write.accept(state);
+        if (pendingWrites != null) {
+            pendingWrites.add(write);
+        }
+    }
+
+    /**
+     * Follows bulk status transitions: bookings leaving a blocking status are dropped, and since a transition
+     * event carries no dates, bookings entering one trigger a reload.
+     */
+    @EventListener
+    public void onStatusTransition(final BookingStatusTransitionEvent event) {
+        boolean wasBlocking = BLOCKING_STATUSES.contains(event.from());
+        boolean blocking = BLOCKING_STATUSES.contains(event.to());
+        if (wasBlocking && !blocking) {
+            event.bookingIds().forEach(this::remove);
+        } else if (!wasBlocking && blocking) {
+            rebuild();
+        }
+    }
+
+    /**
+     * True when the index has held a blocking booking of the vehicle since its last rebuild, which means the
+     * vehicle existed when that booking was made.
+     */
+    public boolean knowsVehicle(final String vehicleId) {
+        return state.schedules.containsKey(vehicleId);
+    }
+
+    /**
+     * Returns true when no blocking booking of the vehicle overlaps [startDate, endDate].
+     */
+    public boolean isAvailable(final String vehicleId, final LocalDate startDate, final LocalDate endDate) {
+        VehicleSchedule schedule = state.schedules.get(vehicleId);
+        return schedule == null || !schedule.overlaps(startDate, endDate);
+    }
+
+    /**
+     * Busy days of a vehicle in [startDate, endDate]: bit {@code i} is set when {@code startDate + i} is booked.
+     */
+    public BitSet findBusyDays(final String vehicleId, final LocalDate startDate, final LocalDate endDate) {
+        VehicleSchedule schedule = state.schedules.get(vehicleId);
+        return schedule == null ? new BitSet() : schedule.busyDays(startDate, endDate);
+    }
+
+    private static final class IndexState {
+        private final Map<String, VehicleSchedule> schedules = new ConcurrentHashMap<>();
+        private final Map<String, Reservation> reservations = new HashMap<>();
+
+        private void put(final Booking booking) {
+            if (!BLOCKING_STATUSES.contains(booking.getStatus())
+                    || booking.getVehicleId() == null
+                    || booking.getStartDate() == null
+                    || booking.getEndDate() == null) {
+                return;
+            }
+            Reservation reservation = new Reservation(booking.getVehicleId(), booking.getStartDate(), booking.getEndDate());
+            reservations.put(booking.getId(), reservation);
+            schedules.computeIfAbsent(reservation.vehicleId(), key -> new VehicleSchedule())
+                    .add(booking.getId(), reservation.startDate(), reservation.endDate());
+        }
+
+        private void remove(final String bookingId) {
+            Reservation reservation = reservations.remove(bookingId);
+            if (reservation == null) {
+                return;
+            }
+            VehicleSchedule schedule = schedules.get(reservation.vehicleId());
+            if (schedule != null) {
+                schedule.remove(bookingId, reservation.startDate());
+            }
+        }
+    }
+
+    private record Reservation(String vehicleId, LocalDate startDate, LocalDate endDate) {
+    }
+
+    /**
+     * Reservations of one vehicle keyed by start date. Overlap lookups only scan the start dates
+     * that could still reach the requested window, bounded by the longest reservation seen.
+     * A bitset with one bit per day since {@link #CALENDAR_ORIGIN} mirrors the reservations for calendar reads.
+     */
+    private static final class VehicleSchedule {
+        private static final LocalDate CALENDAR_ORIGIN = LocalDate.of(2020, 1, 1);
+
+        private final NavigableMap<LocalDate, Map<String, LocalDate>> byStartDate = new TreeMap<>();
+        private final BitSet busyDays = new BitSet();
+        private long longestStayDays;
+
+        private synchronized void add(final String bookingId, final LocalDate startDate, final LocalDate endDate) {
+            byStartDate.computeIfAbsent(startDate, key -> new HashMap<>()).put(bookingId, endDate);
+            longestStayDays = Math.max(longestStayDays, ChronoUnit.DAYS.between(startDate, endDate));
+            markBusy(startDate, endDate);
+        }
+
+        private synchronized void remove(final String bookingId, final LocalDate startDate) {
+            Map<String, LocalDate> bookings = byStartDate.get(startDate);
+            if (bookings == null) {
+                return;
+            }
+            LocalDate endDate = bookings.remove(bookingId);
+            if (bookings.isEmpty()) {
+                byStartDate.remove(startDate);
+            }
+            if (endDate == null) {
+                return;
+            }
+            int from = Math.max(dayIndex(startDate), 0);
+            int to = dayIndex(endDate) + 1;
+            if (to > from) {
+                busyDays.clear(from, to);
+            }
+            // Re-mark the days still held by other reservations overlapping the released range.
+            for (Map.Entry<LocalDate, Map<String, LocalDate>> entry
+                    : byStartDate.subMap(startDate.minusDays(longestStayDays), true, endDate, true).entrySet()) {
+                for (LocalDate otherEndDate : entry.getValue().values()) {
+                    if (!otherEndDate.isBefore(startDate)) {
+                        markBusy(entry.getKey(), otherEndDate);
+                    }
+                }
+            }
+        }
+
+        private synchronized BitSet busyDays(final LocalDate startDate, final LocalDate endDate) {
+            int from = dayIndex(startDate);
+            int to = dayIndex(endDate) + 1;
+            BitSet result = new BitSet();
+            for (int day = busyDays.nextSetBit(Math.max(from, 0)); day >= 0 && day < to; day = busyDays.nextSetBit(day + 1)) {
+                result.set(day - from);
+            }
+            return result;
+        }
+
+        private void markBusy(final LocalDate startDate, final LocalDate endDate) {
+            int from = Math.max(dayIndex(startDate), 0);
+            int to = dayIndex(endDate) + 1;
+            if (to > from) {
+                busyDays.set(from, to);
+            }
+        }
+
+        private static int dayIndex(final LocalDate date) {
+            return Math.toIntExact(ChronoUnit.DAYS.between(CALENDAR_ORIGIN, date));
+        }
+
+        // Same inclusive semantics as BookingRepository.existsOverlappingForVehicle.
+        private synchronized boolean overlaps(final LocalDate startDate, final LocalDate endDate) {
+            LocalDate earliestStart = startDate.minusDays(longestStayDays);
+            if (earliestStart.isAfter(endDate)) {
+                return false;
+            }
+            for (Map<String, LocalDate> bookings : byStartDate.subMap(earliestStart, true, endDate, true).values()) {
+                for (LocalDate bookedEndDate : bookings.values()) {
+                    if (!bookedEndDate.isBefore(startDate)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
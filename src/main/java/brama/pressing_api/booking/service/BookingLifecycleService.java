@@ -0,0 +1,111 @@
+package brama.pressing_api.booking.service;
+
+import brama.pressing_api.booking.domain.model.BookingCreatedBy;
+import brama.pressing_api.booking.domain.model.BookingPaymentStatus;
+import brama.pressing_api.booking.domain.model.BookingStatus;
+import brama.pressing_api.booking.domain.model.Booking;
+import brama.pressing_api.booking.repo.BookingRepository;
+import brama.pressing_api.payment.domain.model.Payment;
+import brama.pressing_api.payment.domain.model.PaymentStatus;
+import brama.pressing_api.payment.repo.PaymentRepository;
+import brama.pressing_api.promotion.service.PromotionService;
+import brama.pressing_api.scheduling.service.SchedulerLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Advances bookings by date: CONFIRMED becomes ACTIVE on its start date, CONFIRMED or ACTIVE becomes COMPLETED
+ * once its end date has passed, and unpaid customer bookings left PENDING longer than the expiry are canceled
+ * so their vehicle days and promotion redemptions are freed; a booking with a payment opened within the expiry
+ * is kept while the customer completes checkout. Each step is a bulk status update in batches; the moved ids are published
+ * as a {@link BookingStatusTransitionEvent} so the stats counters, availability index and day claims follow.
+ * Only the replica holding the scheduler lease runs it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookingLifecycleService {
+    private static final String LOCK_NAME = "booking-lifecycle";
+    private static final int BATCH_SIZE = 500;
+
+    private final BookingRepository bookingRepository;
+    private final PaymentRepository paymentRepository;
+    private final PromotionService promotionService;
+    private final SchedulerLockService lockService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.booking-lifecycle.pending-expiry:PT2H}")
+    private Duration pendingExpiry;
+
+    @Value("${app.booking-lifecycle.lock-lease:PT10M}")
+    private Duration lockLease;
+
+    @Scheduled(fixedDelayString = "${app.booking-lifecycle.interval:PT5M}",
+            initialDelayString = "${app.booking-lifecycle.interval:PT5M}")
+    public void scheduledRun() {
+        lockService.runIfLeader(LOCK_NAME, lockLease, () -> advance(LocalDate.now(), LocalDateTime.now()));
+    }
+
+    public void advance(final LocalDate today, final LocalDateTime now) {
+        long activated = transition(BookingStatus.CONFIRMED, BookingStatus.ACTIVE,
+                Criteria.where("start_date").lte(today).and("end_date").gte(today));
+        long completed = transition(BookingStatus.CONFIRMED, BookingStatus.COMPLETED,
+                Criteria.where("end_date").lt(today))
+                + transition(BookingStatus.ACTIVE, BookingStatus.COMPLETED,
+                Criteria.where("end_date").lt(today));
+        LocalDateTime expiredBefore = now.minus(pendingExpiry);
+        List<String> paying = paymentRepository.findBookingIdsByStatusCreatedAfter(PaymentStatus.PENDING, expiredBefore)
+                .stream()
+                .map(Payment::getBookingId)
+                .distinct()
+                .toList();
+        Criteria unpaid = Criteria.where("payment_status").is(BookingPaymentStatus.UNPAID)
+                .and("booking_created_by").is(BookingCreatedBy.CLIENT)
+                .and("created_date").lt(expiredBefore);
+        if (!paying.isEmpty()) {
+            unpaid.and("_id").nin(paying);
+        }
+        long expired = transition(BookingStatus.PENDING, BookingStatus.CANCELED, unpaid, this::releasePromotions);
+        if (activated + completed + expired > 0) {
+            log.info("Booking lifecycle: {} activated, {} completed, {} expired", activated, completed, expired);
+        }
+    }
+
+    private long transition(final BookingStatus from, final BookingStatus to, final Criteria window) {
+        return transition(from, to, window, batch -> { });
+    }
+
+    private long transition(final BookingStatus from,
+                            final BookingStatus to,
+                            final Criteria window,
+                            final Consumer<List<String>> onMoved) {
+        long moved = 0;
+        List<String> batch;
+        do {
+            batch = bookingRepository.transitionStatus(from, to, window, BATCH_SIZE);
+            if (!batch.isEmpty()) {
+                eventPublisher.publishEvent(new BookingStatusTransitionEvent(from, to, batch));
+                onMoved.accept(batch);
+                moved += batch.size();
+            }
+        } while (batch.size() == BATCH_SIZE);
+        return moved;
+    }
+
+    private void releasePromotions(final List<String> bookingIds) {
+        bookingRepository.findPromotionIdsByIdIn(bookingIds).stream()
+                .map(Booking::getPromotionId)
+                .forEach(promotionService::releaseRedemption);
+    }
+}
@@ -0,0 +1,37 @@
+package brama.pressing_api.booking.service;
+
+import brama.pressing_api.booking.domain.model.Booking;
+import brama.pressing_api.common.CursorTokens;
+import brama.pressing_api.exception.BusinessException;
+import brama.pressing_api.exception.ErrorCode;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Keyset position for the admin booking list: the (createdDate, id) of the last booking returned.
+ */
+public record BookingPageCursor(LocalDateTime createdDate, String id) {
+    public static BookingPageCursor of(final Booking booking) {
+        return new BookingPageCursor(booking.getCreatedDate(), booking.getId());
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}; a blank token means the first page and yields null.
+     */
+    public static BookingPageCursor decode(final String token) {
+        String[] parts = CursorTokens.decode(token);
+        if (parts == null) {
+            return null;
+        }
+        try {
+            return new BookingPageCursor(LocalDateTime.parse(parts[0]), parts[1]);
+        } catch (DateTimeParseException ex) {
+            throw new BusinessException(ErrorCode.INVALID_PAGE_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return CursorTokens.encode(String.valueOf(createdDate), id);
+    }
+}
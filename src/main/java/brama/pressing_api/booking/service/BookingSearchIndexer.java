@@ -0,0 +1,22 @@
+package brama.pressing_api.booking.service;
+
+import brama.pressing_api.booking.domain.model.Booking;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+
+/**
+ * Refreshes a booking's search tokens on every save. Bookings written before the token field existed are
+ * filled by {@link BookingSearchTokenBackfill}; this callback takes no Mongo beans, since the converter that
+ * invokes it is itself a dependency of {@code MongoTemplate}.
+ */
+@Component
+public class BookingSearchIndexer implements BeforeConvertCallback<Booking> {
+
+    @Override
+    public Booking onBeforeConvert(final Booking booking, final String collection) {
+        booking.setSearchTokens(new ArrayList<>(BookingSearchTokens.forBooking(booking)));
+        return booking;
+    }
+}
@@ -0,0 +1,62 @@
+package brama.pressing_api.booking.service;
+
+import brama.pressing_api.booking.domain.model.Booking;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Fills the search tokens of bookings written before the token field existed, once the application has started.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingSearchTokenBackfill {
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        Query query = new Query(Criteria.where("search_tokens").exists(false));
+        query.fields().include("customer_name", "customer_email", "customer_phone", "vehicle_name", "notes", "promo_code");
+        query.cursorBatchSize(BACKFILL_BATCH_SIZE);
+
+        long updated = 0;
+        BulkOperations bulk = null;
+        int pending = 0;
+        try (Stream<Booking> bookings = mongoTemplate.stream(query, Booking.class)) {
+            Iterator<Booking> iterator = bookings.iterator();
+            while (iterator.hasNext()) {
+                Booking booking = iterator.next();
+                if (bulk == null) {
+                    bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Booking.class);
+                }
+                bulk.updateOne(new Query(Criteria.where("_id").is(booking.getId())),
+                        Update.update("search_tokens", new ArrayList<>(BookingSearchTokens.forBooking(booking))));
+                if (++pending == BACKFILL_BATCH_SIZE) {
+                    updated += bulk.execute().getModifiedCount();
+                    bulk = null;
+                    pending = 0;
+                }
+            }
+        }
+        if (bulk != null) {
+            updated += bulk.execute().getModifiedCount();
+        }
+        if (updated > 0) {
+            log.info("Backfilled search tokens for {} bookings", updated);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package brama.pressing_api.booking.service;
+
+import brama.pressing_api.booking.domain.model.Booking;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Builds the lowercase tokens stored in {@code bookings.search_tokens} for the admin free-text search.
+ * Each searchable field contributes every trigram of its value, plus the first one and two characters of
+ * each word (prefixed with {@code ^}) so that one- and two-character typeahead queries hit the index too.
+ * Only the first {@value #NOTES_INDEXED_LENGTH} characters of the free-form notes are indexed, so a long note
+ * cannot bloat the document and its multikey index entries.
+ */
+public final class BookingSearchTokens {
+    public static final int GRAM_LENGTH = 3;
+    public static final int NOTES_INDEXED_LENGTH = 200;
+
+    private static final String WORD_PREFIX = "^";
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private BookingSearchTokens() {
+    }
+
+    public static Set<String> forBooking(final Booking booking) {
+        Set<String> tokens = new LinkedHashSet<>();
+        addField(tokens, booking.getCustomerName());
+        addField(tokens, booking.getCustomerEmail());
+        addField(tokens, booking.getCustomerPhone());
+        addField(tokens, booking.getVehicleName());
+        addField(tokens, truncate(booking.getNotes(), NOTES_INDEXED_LENGTH));
+        addField(tokens, booking.getPromoCode());
+        return tokens;
+    }
+
+    /**
+     * Tokens that every matching booking must carry: the query's trigrams, or a word-prefix token
+     * when the query is shorter than a trigram. Words are split on punctuation, so a short query such as
+     * {@code "+2"} uses the prefix of its first word ({@code "^2"}). Empty when the query is blank or has no
+     * letter or digit to index, in which case the caller has to match without the tokens.
+     */
+    public static Set<String> forQuery(final String query) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return Set.of();
+        }
+        if (normalized.length() < GRAM_LENGTH) {
+            for (String word : WORD_SEPARATOR.split(normalized)) {
+                if (!word.isEmpty()) {
+                    return Set.of(WORD_PREFIX + word);
+                }
+            }
+            return Set.of();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        addGrams(tokens, normalized);
+        return tokens;
+    }
+
+    private static void addField(final Set<String> tokens, final String value) {
+        String normalized = normalize(value);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        addGrams(tokens, normalized);
+        for (String word : WORD_SEPARATOR.split(normalized)) {
+            for (int length = 1; length < GRAM_LENGTH && length <= word.length(); length++) {
+                tokens.add(WORD_PREFIX + word.substring(0, length));
+            }
+        }
+    }
+
+    private static void addGrams(final Set<String> tokens, final String value) {
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            tokens.add(value.substring(i, i + GRAM_LENGTH));
+        }
+    }
+
+    private static String truncate(final String value, final int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    private static String normalize(final String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
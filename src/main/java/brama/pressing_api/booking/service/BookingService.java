@@ -6,9 +6,14 @@ import brama.pressing_api.booking.dto.request.CreateBookingRequest;
 import brama.pressing_api.booking.dto.request.RecordBookingPaymentRequest;
 import brama.pressing_api.booking.dto.response.BookingAdminStatsResponse;
 import brama.pressing_api.booking.dto.response.BookingResponse;
+import brama.pressing_api.booking.dto.response.BookingSummaryResponse;
+import brama.pressing_api.booking.dto.response.BulkCreateBookingResponse;
+import brama.pressing_api.common.CursorPageResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface BookingService {
@@ -16,6 +21,11 @@ public interface BookingService {
 
     List<BookingResponse> listMyBookings();
 
+    /**
+     * The current user's bookings as list cards, newest start date first, keyset-paginated by {@code after}.
+     */
+    CursorPageResponse<BookingSummaryResponse> listMyBookingSummaries(String after, int size);
+
     BookingResponse getMyBooking(String bookingId);
 
     BookingResponse cancelMyBooking(String bookingId);
@@ -24,13 +34,26 @@ public interface BookingService {
 
     Page<BookingResponse> searchAdmin(BookingSearchCriteria criteria, Pageable pageable);
 
+    /**
+     * Keyset-paginated admin search; {@code after} is the cursor from the previous page, blank for the first.
+     */
+    CursorPageResponse<BookingResponse> searchAdminAfter(BookingSearchCriteria criteria,
+                                                         String after,
+                                                         int size,
+                                                         boolean includeTotal);
+
     BookingResponse createAdmin(AdminCreateBookingRequest request, String adminId);
 
+    BulkCreateBookingResponse createAdminBulk(List<AdminCreateBookingRequest> requests, String adminId);
+
     BookingResponse recordPayment(String bookingId, RecordBookingPaymentRequest request, String adminId);
 
     BookingAdminStatsResponse getAdminStats();
 
-    String exportCsv(BookingSearchCriteria criteria);
+    /**
+     * Writes the bookings matching the criteria as CSV, one row at a time from a Mongo cursor.
+     */
+    void exportCsv(BookingSearchCriteria criteria, OutputStream outputStream) throws IOException;
 
     BookingResponse updateStatus(String bookingId, BookingStatus status);
 }
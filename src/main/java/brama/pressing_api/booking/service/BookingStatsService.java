@@ -0,0 +1,280 @@
+package brama.pressing_api.booking.service;
+
+import brama.pressing_api.booking.domain.model.Booking;
+import brama.pressing_api.booking.domain.model.BookingPaymentStatus;
+import brama.pressing_api.booking.domain.model.BookingStats;
+import brama.pressing_api.booking.domain.model.BookingStatus;
+import brama.pressing_api.booking.repo.BookingRepository;
+import brama.pressing_api.booking.repo.BookingStatsRepository;
+import brama.pressing_api.common.Money;
+import brama.pressing_api.scheduling.service.SchedulerLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.Decimal128;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the {@code booking_stats} counters in step with booking changes using atomic $inc updates,
+ * and periodically recomputes them from the bookings collection to correct and report any drift.
+ * Every $inc also bumps {@code revision}, so a recount is only written when no increment landed while it ran.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookingStatsService {
+    private static final String LOCK_NAME = "booking-stats-reconcile";
+
+    private final BookingStatsRepository statsRepository;
+    private final BookingRepository bookingRepository;
+    private final MongoTemplate mongoTemplate;
+    private final SchedulerLockService lockService;
+
+    @Value("${app.booking-stats.lock-lease:PT10M}")
+    private Duration lockLease;
+
+    public BookingStats getStats() {
+        return statsRepository.findById(BookingStats.GLOBAL_ID)
+                .orElseGet(this::reconcile);
+    }
+
+    /**
+     * Applies the difference between a booking's previous state (null for a new booking) and its saved state.
+     */
+    public void record(final Snapshot previous, final Booking current) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        long collected = 0L;
+        long pending = 0L;
+        if (previous != null) {
+            addCount(counts, statusField(previous.status), -1);
+            addCount(counts, paymentStatusField(previous.paymentStatus), -1);
+            collected -= previous.paidMinorUnits;
+            pending -= previous.pendingMinorUnits;
+        }
+        if (current != null) {
+            Snapshot next = Snapshot.of(current);
+            addCount(counts, statusField(next.status), 1);
+            addCount(counts, paymentStatusField(next.paymentStatus), 1);
+            collected += next.paidMinorUnits;
+            pending += next.pendingMinorUnits;
+        }
+        apply(counts, collected, pending);
+    }
+
+    /**
+     * Counts a batch of new bookings with a single update.
+     */
+    public void recordCreated(final Collection<Booking> bookings) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        long collected = 0L;
+        long pending = 0L;
+        for (Booking booking : bookings) {
+            Snapshot next = Snapshot.of(booking);
+            addCount(counts, statusField(next.status), 1);
+            addCount(counts, paymentStatusField(next.paymentStatus), 1);
+            collected += next.paidMinorUnits;
+            pending += next.pendingMinorUnits;
+        }
+        apply(counts, collected, pending);
+    }
+
+    private void apply(final Map<String, Long> counts, final long collected, final long pending) {
+        Update update = new Update();
+        counts.forEach((field, delta) -> {
+            if (delta != 0) {
+                update.inc(field, delta);
+            }
+        });
+        if (collected != 0) {
+            update.inc("collected_amount", new Decimal128(Money.toBigDecimal(collected)));
+        }
+        if (pending != 0) {
+            update.inc("pending_amount", new Decimal128(Money.toBigDecimal(pending)));
+        }
+        if (update.getUpdateObject().isEmpty()) {
+            return;
+        }
+        update.inc("revision", 1);
+        // Before the counters are initialised the update is a no-op; the initial reconcile counts the booking.
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(BookingStats.GLOBAL_ID)), update, BookingStats.class);
+    }
+
+    /**
+     * Moves the counted bookings between status counters after a bulk transition; amounts do not depend on status.
+     */
+    @EventListener
+    public void onStatusTransition(final BookingStatusTransitionEvent event) {
+        long moved = event.bookingIds().size();
+        if (moved == 0 || event.from() == event.to()) {
+            return;
+        }
+        Update update = new Update()
+                .inc(statusField(event.from()), -moved)
+                .inc(statusField(event.to()), moved)
+                .inc("revision", 1);
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(BookingStats.GLOBAL_ID)), update, BookingStats.class);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!statsRepository.existsById(BookingStats.GLOBAL_ID)) {
+            lockService.runIfLeader(LOCK_NAME, lockLease, this::reconcile);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.booking-stats.reconcile-interval:PT30M}",
+            initialDelayString = "${app.booking-stats.reconcile-interval:PT30M}")
+    public void scheduledReconcile() {
+        lockService.runIfLeader(LOCK_NAME, lockLease, this::reconcile);
+    }
+
+    /**
+     * Recomputes the counters from the bookings collection, logs any drift and stores the fresh values.
+     * The values are written with a $set guarded on the revision read before counting; if a booking changed
+     * in the meantime the stored counters are kept and the next run corrects any remaining drift.
+     */
+    public BookingStats reconcile() {
+        BookingStats current = statsRepository.findById(BookingStats.GLOBAL_ID).orElse(null);
+        BookingStats computed = bookingRepository.aggregateStats();
+        computed.setId(BookingStats.GLOBAL_ID);
+        if (current == null) {
+            try {
+                return mongoTemplate.insert(computed);
+            } catch (DuplicateKeyException ex) {
+                // Another instance initialised the counters first.
+                return statsRepository.findById(BookingStats.GLOBAL_ID).orElse(computed);
+            }
+        }
+        reportDrift(current, computed);
+        Query unchanged = new Query(Criteria.where("_id").is(BookingStats.GLOBAL_ID)
+                .and("revision").is(current.getRevision()));
+        Update update = new Update()
+                .set("pending_count", computed.getPendingCount())
+                .set("confirmed_count", computed.getConfirmedCount())
+                .set("active_count", computed.getActiveCount())
+                .set("completed_count", computed.getCompletedCount())
+                .set("canceled_count", computed.getCanceledCount())
+                .set("unpaid_count", computed.getUnpaidCount())
+                .set("partial_count", computed.getPartialCount())
+                .set("paid_count", computed.getPaidCount())
+                .set("refunded_count", computed.getRefundedCount())
+                .set("collected_amount", decimal(computed.getCollectedAmount()))
+                .set("pending_amount", decimal(computed.getPendingAmount()))
+                .inc("revision", 1);
+        if (mongoTemplate.updateFirst(unchanged, update, BookingStats.class).getModifiedCount() == 0) {
+            log.debug("Booking stats changed during reconcile; keeping the stored counters");
+            return statsRepository.findById(BookingStats.GLOBAL_ID).orElse(current);
+        }
+        computed.setRevision(current.getRevision() + 1);
+        return computed;
+    }
+
+    private Decimal128 decimal(final BigDecimal amount) {
+        return new Decimal128(amount != null ? amount : BigDecimal.ZERO);
+    }
+
+    private void reportDrift(final BookingStats current, final BookingStats computed) {
+        Map<String, Object[]> drift = new LinkedHashMap<>();
+        compare(drift, "pending", current.getPendingCount(), computed.getPendingCount());
+        compare(drift, "confirmed", current.getConfirmedCount(), computed.getConfirmedCount());
+        compare(drift, "active", current.getActiveCount(), computed.getActiveCount());
+        compare(drift, "completed", current.getCompletedCount(), computed.getCompletedCount());
+        compare(drift, "canceled", current.getCanceledCount(), computed.getCanceledCount());
+        compare(drift, "unpaid", current.getUnpaidCount(), computed.getUnpaidCount());
+        compare(drift, "partial", current.getPartialCount(), computed.getPartialCount());
+        compare(drift, "paid", current.getPaidCount(), computed.getPaidCount());
+        compare(drift, "refunded", current.getRefundedCount(), computed.getRefundedCount());
+        compareAmount(drift, "collectedAmount", current.getCollectedAmount(), computed.getCollectedAmount());
+        compareAmount(drift, "pendingAmount", current.getPendingAmount(), computed.getPendingAmount());
+        drift.forEach((field, values) ->
+                log.warn("Booking stats drift on {}: stored {} but recomputed {}", field, values[0], values[1]));
+    }
+
+    private void compare(final Map<String, Object[]> drift, final String field, final long stored, final long computed) {
+        if (stored != computed) {
+            drift.put(field, new Object[]{stored, computed});
+        }
+    }
+
+    private void compareAmount(final Map<String, Object[]> drift,
+                               final String field,
+                               final BigDecimal stored,
+                               final BigDecimal computed) {
+        BigDecimal left = stored != null ? stored : BigDecimal.ZERO;
+        BigDecimal right = computed != null ? computed : BigDecimal.ZERO;
+        if (left.compareTo(right) != 0) {
+            drift.put(field, new Object[]{left, right});
+        }
+    }
+
+    private void addCount(final Map<String, Long> counts, final String field, final long delta) {
+        if (field != null) {
+            counts.merge(field, delta, Long::sum);
+        }
+    }
+
+    private String statusField(final BookingStatus status) {
+        if (status == null) {
+            return null;
+        }
+        return switch (status) {
+            case PENDING -> "pending_count";
+            case CONFIRMED -> "confirmed_count";
+            case ACTIVE -> "active_count";
+            case COMPLETED -> "completed_count";
+            case CANCELED -> "canceled_count";
+        };
+    }
+
+    private String paymentStatusField(final BookingPaymentStatus status) {
+        if (status == null) {
+            return null;
+        }
+        return switch (status) {
+            case UNPAID -> "unpaid_count";
+            case PARTIAL -> "partial_count";
+            case PAID -> "paid_count";
+            case REFUNDED -> "refunded_count";
+        };
+    }
+
+    /**
+     * The parts of a booking that feed the counters, captured before the booking is mutated.
+     */
+    public static final class Snapshot {
+        private final BookingStatus status;
+        private final BookingPaymentStatus paymentStatus;
+        private final long paidMinorUnits;
+        private final long pendingMinorUnits;
+
+        private Snapshot(final BookingStatus status,
+                         final BookingPaymentStatus paymentStatus,
+                         final long paidMinorUnits,
+                         final long pendingMinorUnits) {
+            this.status = status;
+            this.paymentStatus = paymentStatus;
+            this.paidMinorUnits = paidMinorUnits;
+            this.pendingMinorUnits = pendingMinorUnits;
+        }
+
+        public static Snapshot of(final Booking booking) {
+            long total = Money.toMinorUnits(booking.getPricing() != null ? booking.getPricing().getTotal() : null);
+            long paid = Money.toMinorUnits(booking.getPaidAmount());
+            return new Snapshot(booking.getStatus(), booking.getPaymentStatus(), paid, Math.max(total - paid, 0L));
+        }
+    }
+}
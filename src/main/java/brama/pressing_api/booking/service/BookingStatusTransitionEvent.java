@@ -0,0 +1,12 @@
+package brama.pressing_api.booking.service;
+
+import brama.pressing_api.booking.domain.model.BookingStatus;
+
+import java.util.List;
+
+/**
+ * Published after a bulk status update moved the given bookings from one status to another
+ * without going through the per-booking save path.
+ */
+public record BookingStatusTransitionEvent(BookingStatus from, BookingStatus to, List<String> bookingIds) {
+}
@@ -0,0 +1,40 @@
+package brama.pressing_api.booking.service;
+
+import brama.pressing_api.booking.domain.model.Booking;
+import brama.pressing_api.common.CursorTokens;
+import brama.pressing_api.exception.BusinessException;
+import brama.pressing_api.exception.ErrorCode;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Keyset position for a customer's booking list: the (startDate, id) of the last booking returned.
+ * Bookings without a start date come after all the others.
+ */
+public record MyBookingCursor(LocalDate startDate, String id) {
+    private static final String NO_DATE = "null";
+
+    public static MyBookingCursor of(final Booking booking) {
+        return new MyBookingCursor(booking.getStartDate(), booking.getId());
+    }
+
+    public static MyBookingCursor decode(final String token) {
+        String[] parts = CursorTokens.decode(token);
+        if (parts == null) {
+            return null;
+        }
+        if (NO_DATE.equals(parts[0])) {
+            return new MyBookingCursor(null, parts[1]);
+        }
+        try {
+            return new MyBookingCursor(LocalDate.parse(parts[0]), parts[1]);
+        } catch (DateTimeParseException ex) {
+            throw new BusinessException(ErrorCode.INVALID_PAGE_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return CursorTokens.encode(startDate != null ? startDate.toString() : NO_DATE, id);
+    }
+}
@@ -0,0 +1,73 @@
+package brama.pressing_api.booking.service;
+
+import brama.pressing_api.booking.domain.model.Booking;
+import brama.pressing_api.booking.repo.BookingRepository;
+import brama.pressing_api.scheduling.service.SchedulerLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Claims the vehicle days of blocking bookings that have none, so bookings made before day claims existed are
+ * protected by the unique index too. Runs at startup on one replica; bookings already holding claims are skipped,
+ * so running it again only costs a scan of the bookings that have not ended.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VehicleDayClaimBackfill {
+    private static final String LOCK_NAME = "vehicle-day-claim-backfill";
+    private static final int BATCH_SIZE = 500;
+
+    private final BookingRepository bookingRepository;
+    private final VehicleReservationService reservationService;
+    private final SchedulerLockService lockService;
+
+    @Value("${app.booking-claims.backfill-lease:PT30M}")
+    private Duration lease;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        lockService.runIfLeader(LOCK_NAME, lease, () -> backfill(LocalDate.now()));
+    }
+
+    public void backfill(final LocalDate today) {
+        Set<String> clashing = new HashSet<>();
+        List<Booking> batch = new ArrayList<>(BATCH_SIZE);
+        try (Stream<Booking> bookings =
+                     bookingRepository.streamReservations(BookingAvailabilityIndex.BLOCKING_STATUSES)) {
+            Iterator<Booking> iterator = bookings.iterator();
+            while (iterator.hasNext()) {
+                Booking booking = iterator.next();
+                if (booking.getVehicleId() == null || booking.getStartDate() == null || booking.getEndDate() == null
+                        || booking.getEndDate().isBefore(today)) {
+                    continue;
+                }
+                batch.add(booking);
+                if (batch.size() == BATCH_SIZE) {
+                    clashing.addAll(reservationService.claimMissing(batch));
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            clashing.addAll(reservationService.claimMissing(batch));
+        }
+        if (!clashing.isEmpty()) {
+            log.warn("Vehicle day claims backfill: {} bookings overlap days held by another booking: {}",
+                    clashing.size(), clashing);
+        }
+    }
+}
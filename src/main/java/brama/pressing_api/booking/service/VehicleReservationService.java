@@ -0,0 +1,176 @@
+package brama.pressing_api.booking.service;
+
+import brama.pressing_api.booking.domain.model.Booking;
+import brama.pressing_api.booking.domain.model.VehicleDayClaim;
+import brama.pressing_api.booking.repo.VehicleDayClaimRepository;
+import brama.pressing_api.exception.BusinessException;
+import brama.pressing_api.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Claims vehicle rental days atomically. Every day of a blocking booking (start and end inclusive, like
+ * the overlap queries) becomes a document under a unique {vehicle_id, day} index, so the first
+ * booking to insert a day wins and any concurrent conflicting booking fails on the duplicate key.
+ * Claims are taken when a booking enters a {@link BookingAvailabilityIndex#BLOCKING_STATUSES blocking status}
+ * and released when it leaves them.
+ */
+@Service
+@RequiredArgsConstructor
+public class VehicleReservationService {
+    private final VehicleDayClaimRepository claimRepository;
+    private final MongoTemplate mongoTemplate;
+
+    public void reserve(final String bookingId,
+                        final String vehicleId,
+                        final LocalDate startDate,
+                        final LocalDate endDate) {
+        List<VehicleDayClaim> claims = new ArrayList<>();
+        addClaims(claims, bookingId, vehicleId, startDate, endDate);
+        try {
+            mongoTemplate.insert(claims, VehicleDayClaim.class);
+        } catch (DuplicateKeyException ex) {
+            release(bookingId);
+            throw new BusinessException(ErrorCode.VEHICLE_NOT_AVAILABLE);
+        }
+    }
+
+    /**
+     * Claims the days of many bookings in one unordered bulk insert. Bookings that lost any day to an existing
+     * claim have their other claims removed again, and their ids are returned.
+     */
+    public Set<String> reserveAll(final Collection<Booking> bookings) {
+        List<VehicleDayClaim> claims = new ArrayList<>();
+        for (Booking booking : bookings) {
+            addClaims(claims, booking.getId(), booking.getVehicleId(), booking.getStartDate(), booking.getEndDate());
+        }
+        if (claims.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, VehicleDayClaim.class)
+                    .insert(claims)
+                    .execute();
+            return Set.of();
+        } catch (BulkOperationException ex) {
+            Set<String> lost = new HashSet<>();
+            ex.getErrors().forEach(error -> lost.add(claims.get(error.getIndex()).getBookingId()));
+            claimRepository.deleteByBookingIdIn(lost);
+            return lost;
+        }
+    }
+
+    /**
+     * Days already claimed for the vehicles of the given bookings, read with one query over each vehicle's
+     * earliest start to latest end.
+     */
+    public Map<String, NavigableSet<LocalDate>> findClaimedDays(final Collection<Booking> bookings) {
+        Map<String, LocalDate[]> windows = new HashMap<>();
+        for (Booking booking : bookings) {
+            windows.merge(booking.getVehicleId(),
+                    new LocalDate[]{booking.getStartDate(), booking.getEndDate()},
+                    (current, next) -> new LocalDate[]{
+                            current[0].isBefore(next[0]) ? current[0] : next[0],
+                            current[1].isAfter(next[1]) ? current[1] : next[1]});
+        }
+        Map<String, NavigableSet<LocalDate>> claimed = new HashMap<>();
+        if (windows.isEmpty()) {
+            return claimed;
+        }
+        List<Criteria> ranges = new ArrayList<>();
+        windows.forEach((vehicleId, window) -> ranges.add(
+                Criteria.where("vehicle_id").is(vehicleId).and("day").gte(window[0]).lte(window[1])));
+        Query query = new Query(new Criteria().orOperator(ranges.toArray(new Criteria[0])));
+        query.fields().include("vehicle_id", "day");
+        for (VehicleDayClaim claim : mongoTemplate.find(query, VehicleDayClaim.class)) {
+            claimed.computeIfAbsent(claim.getVehicleId(), key -> new TreeSet<>()).add(claim.getDay());
+        }
+        return claimed;
+    }
+
+    /**
+     * Claims the days of bookings that hold none yet, such as those created before day claims existed.
+     * Bookings that already hold claims are skipped; days taken by another booking are left to it and the
+     * ids of the bookings that clash are returned for an operator to resolve.
+     */
+    public Set<String> claimMissing(final Collection<Booking> bookings) {
+        Set<String> bookingIds = new HashSet<>();
+        bookings.forEach(booking -> bookingIds.add(booking.getId()));
+        Query claimed = new Query(Criteria.where("booking_id").in(bookingIds));
+        claimed.fields().include("booking_id");
+        mongoTemplate.find(claimed, VehicleDayClaim.class)
+                .forEach(claim -> bookingIds.remove(claim.getBookingId()));
+
+        List<VehicleDayClaim> claims = new ArrayList<>();
+        for (Booking booking : bookings) {
+            if (bookingIds.contains(booking.getId())) {
+                addClaims(claims, booking.getId(), booking.getVehicleId(),
+                        booking.getStartDate(), booking.getEndDate());
+            }
+        }
+        if (claims.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, VehicleDayClaim.class)
+                    .insert(claims)
+                    .execute();
+            return Set.of();
+        } catch (BulkOperationException ex) {
+            Set<String> clashing = new HashSet<>();
+            ex.getErrors().forEach(error -> clashing.add(claims.get(error.getIndex()).getBookingId()));
+            return clashing;
+        }
+    }
+
+    public void release(final String bookingId) {
+        if (bookingId != null) {
+            claimRepository.deleteByBookingId(bookingId);
+        }
+    }
+
+    private void addClaims(final List<VehicleDayClaim> claims,
+                           final String bookingId,
+                           final String vehicleId,
+                           final LocalDate startDate,
+                           final LocalDate endDate) {
+        for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+            claims.add(VehicleDayClaim.builder()
+                    .vehicleId(vehicleId)
+                    .day(day)
+                    .bookingId(bookingId)
+                    .build());
+        }
+    }
+
+    /**
+     * Frees the days of bookings that left a blocking status in bulk, as a single update does through
+     * {@link #release(String)}.
+     */
+    @EventListener
+    public void onStatusTransition(final BookingStatusTransitionEvent event) {
+        if (BookingAvailabilityIndex.BLOCKING_STATUSES.contains(event.from())
+                && !BookingAvailabilityIndex.BLOCKING_STATUSES.contains(event.to())
+                && !event.bookingIds().isEmpty()) {
+            claimRepository.deleteByBookingIdIn(event.bookingIds());
+        }
+    }
+}
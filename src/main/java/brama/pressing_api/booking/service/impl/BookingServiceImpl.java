@@ -5,6 +5,7 @@ import brama.pressing_api.booking.domain.model.Booking;
 import brama.pressing_api.booking.domain.model.BookingCreatedBy;
 import brama.pressing_api.booking.domain.model.BookingPaymentStatus;
 import brama.pressing_api.booking.domain.model.BookingPricing;
+import brama.pressing_api.booking.domain.model.BookingStats;
 import brama.pressing_api.booking.domain.model.BookingStatus;
 import brama.pressing_api.booking.domain.model.BookingPaymentEntry;
 import brama.pressing_api.booking.dto.request.AdminCreateBookingRequest;
@@ -12,13 +13,25 @@ import brama.pressing_api.booking.dto.request.CreateBookingRequest;
 import brama.pressing_api.booking.dto.request.RecordBookingPaymentRequest;
 import brama.pressing_api.booking.dto.response.BookingAdminStatsResponse;
 import brama.pressing_api.booking.dto.response.BookingResponse;
+import brama.pressing_api.booking.dto.response.BookingSummaryResponse;
+import brama.pressing_api.booking.dto.response.BulkBookingItemResponse;
+import brama.pressing_api.booking.dto.response.BulkCreateBookingResponse;
 import brama.pressing_api.booking.repo.BookingRepository;
+import brama.pressing_api.booking.service.BookingAvailabilityIndex;
+import brama.pressing_api.booking.service.BookingPageCursor;
 import brama.pressing_api.booking.service.BookingService;
 import brama.pressing_api.booking.service.BookingSearchCriteria;
+import brama.pressing_api.booking.service.BookingStatsService;
+import brama.pressing_api.booking.service.MyBookingCursor;
+import brama.pressing_api.booking.service.VehicleReservationService;
+import brama.pressing_api.common.CursorPageResponse;
+import brama.pressing_api.common.Money;
 import brama.pressing_api.config.PricingProperties;
 import brama.pressing_api.exception.BusinessException;
 import brama.pressing_api.exception.EntityNotFoundException;
 import brama.pressing_api.exception.ErrorCode;
+import brama.pressing_api.pricing.service.PricingEngine;
+import brama.pressing_api.pricing.service.PricingInput;
 import brama.pressing_api.promotion.service.PromotionService;
 import brama.pressing_api.utils.SecurityUtils;
 import brama.pressing_api.vehicle.domain.model.Vehicle;
@@ -33,28 +46,50 @@ import brama.pressing_api.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
+    private static final String CSV_HEADER =
+            "id,customerName,customerEmail,customerPhone,vehicleName,startDate,endDate,status,paymentStatus,total,paidAmount,createdBy,createdDate\n";
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final BookingRepository bookingRepository;
     private final VehicleRepository vehicleRepository;
     private final PromotionService promotionService;
     private final PricingProperties pricingProperties;
+    private final PricingEngine pricingEngine;
     private final PaymentRepository paymentRepository;
     private final UserRepository userRepository;
+    private final BookingAvailabilityIndex availabilityIndex;
+    private final VehicleReservationService reservationService;
+    private final BookingStatsService statsService;
 
     @Override
     public BookingResponse create(final CreateBookingRequest request) {
@@ -98,7 +133,7 @@ public class BookingServiceImpl implements BookingService {
                 .pricing(pricing)
                 .build();
 
-        return BookingMapper.toResponse(bookingRepository.save(booking));
+        return BookingMapper.toResponse(saveRedeemed(booking));
     }
 
     @Override
@@ -111,6 +146,27 @@ public class BookingServiceImpl implements BookingService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPageResponse<BookingSummaryResponse> listMyBookingSummaries(final String after, final int size) {
+        String userId = SecurityUtils.getCurrentUserId()
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        MyBookingCursor cursor = MyBookingCursor.decode(after);
+        List<Booking> bookings = bookingRepository.findUserSummariesAfter(
+                userId,
+                cursor != null ? cursor.startDate() : null,
+                cursor != null ? cursor.id() : null,
+                pageSize + 1);
+        boolean hasNext = bookings.size() > pageSize;
+        List<Booking> page = hasNext ? bookings.subList(0, pageSize) : bookings;
+        return CursorPageResponse.<BookingSummaryResponse>builder()
+                .content(page.stream().map(BookingMapper::toSummaryResponse).toList())
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? MyBookingCursor.of(page.get(page.size() - 1)).encode() : null)
+                .build();
+    }
+
     @Override
     public BookingResponse getMyBooking(final String bookingId) {
         String userId = SecurityUtils.getCurrentUserId()
@@ -129,8 +185,11 @@ public class BookingServiceImpl implements BookingService {
         if (booking.getStatus() == BookingStatus.CANCELED || booking.getStatus() == BookingStatus.COMPLETED) {
             throw new BusinessException(ErrorCode.BOOKING_STATUS_NOT_ALLOWED);
         }
-        booking.setStatus(BookingStatus.CANCELED);
-        return BookingMapper.toResponse(bookingRepository.save(booking));
+        BookingStatsService.Snapshot previous = BookingStatsService.Snapshot.of(booking);
+        Booking saved = updateAndIndex(booking, new Update().set("status", BookingStatus.CANCELED), previous);
+        reservationService.release(saved.getId());
+        promotionService.releaseRedemption(saved.getPromotionId());
+        return BookingMapper.toResponse(saved);
     }
 
     @Override
@@ -143,6 +202,34 @@ public class BookingServiceImpl implements BookingService {
         return bookingRepository.search(criteria, pageable).map(BookingMapper::toResponse);
     }
 
+    @Override
+    public CursorPageResponse<BookingResponse> searchAdminAfter(final BookingSearchCriteria criteria,
+                                                                final String after,
+                                                                final int size,
+                                                                final boolean includeTotal) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        BookingPageCursor cursor = BookingPageCursor.decode(after);
+        // Fetch one extra row to learn whether another page exists without counting.
+        List<Booking> bookings = bookingRepository.searchAfter(
+                criteria,
+                cursor != null ? cursor.createdDate() : null,
+                cursor != null ? cursor.id() : null,
+                pageSize + 1);
+        boolean hasNext = bookings.size() > pageSize;
+        List<Booking> page = hasNext ? bookings.subList(0, pageSize) : bookings;
+
+        CursorPageResponse.CursorPageResponseBuilder<BookingResponse> response = CursorPageResponse.<BookingResponse>builder()
+                .content(page.stream().map(BookingMapper::toResponse).toList())
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? BookingPageCursor.of(page.get(page.size() - 1)).encode() : null);
+        if (includeTotal) {
+            response.totalElements(bookingRepository.countForSearch(criteria))
+                    .totalEstimated(!hasSearchFilters(criteria));
+        }
+        return response.build();
+    }
+
     @Override
     public BookingResponse createAdmin(final AdminCreateBookingRequest request, final String adminId) {
         if (request == null) {
@@ -154,11 +241,335 @@ public class BookingServiceImpl implements BookingService {
 
         Vehicle vehicle = vehicleRepository.findById(request.getVehicleId())
                 .orElseThrow(() -> new EntityNotFoundException("Vehicle not found"));
-        if (vehicle.getStatus() == VehicleStatus.INACTIVE || vehicle.getStatus() == VehicleStatus.MAINTENANCE) {
+        Booking booking = buildAdminBooking(request, customer, vehicle);
+        ensureAvailability(vehicle.getId(), request.getStartDate(), request.getEndDate());
+        Payment initialPayment = addInitialPayment(booking, request);
+
+        Booking saved = saveRedeemed(booking);
+        if (initialPayment != null) {
+            initialPayment.setBookingId(saved.getId());
+            paymentRepository.save(initialPayment);
+        }
+        return BookingMapper.toResponse(saved);
+    }
+
+    /**
+     * Creates up to 500 admin bookings in one pass. Customers and vehicles are loaded with one query each and
+     * the vehicles' claimed days with one more. Each entry first passes the same availability check as a single
+     * booking, then is checked in request order against those days and against the entries accepted before it,
+     * so two entries of the batch cannot share a vehicle day.
+     * Accepted bookings are inserted together, already carrying their initial payment, their days claimed with
+     * one bulk write and their payments stored with one more. Each entry reports its own outcome and a failed
+     * entry does not affect the others.
+     */
+    @Override
+    public BulkCreateBookingResponse createAdminBulk(final List<AdminCreateBookingRequest> requests,
+                                                     final String adminId) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BusinessException(ErrorCode.BOOKING_INVALID_REQUEST);
+        }
+        BulkBookingItemResponse[] results = new BulkBookingItemResponse[requests.size()];
+        Map<String, User> customers = new HashMap<>();
+        userRepository.findAllById(distinctIds(requests, AdminCreateBookingRequest::getCustomerId))
+                .forEach(user -> customers.put(user.getId(), user));
+        Map<String, Vehicle> vehicles = new HashMap<>();
+        vehicleRepository.findAllById(distinctIds(requests, AdminCreateBookingRequest::getVehicleId))
+                .forEach(vehicle -> vehicles.put(vehicle.getId(), vehicle));
+
+        Map<Integer, Booking> candidates = new LinkedHashMap<>();
+        Map<Integer, Payment> initialPayments = new HashMap<>();
+        Map<Integer, BusinessException> paymentErrors = new HashMap<>();
+        for (int index = 0; index < requests.size(); index++) {
+            AdminCreateBookingRequest request = requests.get(index);
+            try {
+                User customer = customers.get(request.getCustomerId());
+                if (customer == null) {
+                    throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+                }
+                validateDateRange(request.getStartDate(), request.getEndDate());
+                Vehicle vehicle = vehicles.get(request.getVehicleId());
+                if (vehicle == null) {
+                    throw new EntityNotFoundException("Vehicle not found");
+                }
+                Booking booking = buildAdminBooking(request, customer, vehicle);
+                ensureAvailability(booking.getVehicleId(), booking.getStartDate(), booking.getEndDate());
+                candidates.put(index, booking);
+            } catch (BusinessException | EntityNotFoundException ex) {
+                results[index] = failedItem(index, ex);
+            }
+        }
+
+        Map<String, NavigableSet<LocalDate>> takenDays = reservationService.findClaimedDays(candidates.values());
+        Iterator<Map.Entry<Integer, Booking>> entries = candidates.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<Integer, Booking> entry = entries.next();
+            Booking booking = entry.getValue();
+            NavigableSet<LocalDate> taken = takenDays.computeIfAbsent(booking.getVehicleId(), key -> new TreeSet<>());
+            if (!taken.subSet(booking.getStartDate(), true, booking.getEndDate(), true).isEmpty()) {
+                results[entry.getKey()] = failedItem(entry.getKey(),
+                        new BusinessException(ErrorCode.VEHICLE_NOT_AVAILABLE));
+                entries.remove();
+                continue;
+            }
+            try {
+                booking.setPromotionId(promotionService.redeem(booking.getPromoCode()));
+            } catch (BusinessException ex) {
+                results[entry.getKey()] = failedItem(entry.getKey(), ex);
+                entries.remove();
+                continue;
+            }
+            for (LocalDate day = booking.getStartDate(); !day.isAfter(booking.getEndDate()); day = day.plusDays(1)) {
+                taken.add(day);
+            }
+            try {
+                Payment payment = addInitialPayment(booking, requests.get(entry.getKey()));
+                if (payment != null) {
+                    initialPayments.put(entry.getKey(), payment);
+                }
+            } catch (BusinessException ex) {
+                // The booking stands; only its initial payment is reported as failed.
+                paymentErrors.put(entry.getKey(), ex);
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            List<Integer> indexes = new ArrayList<>(candidates.keySet());
+            List<Booking> inserted;
+            try {
+                inserted = bookingRepository.insert(candidates.values());
+            } catch (RuntimeException ex) {
+                candidates.values().forEach(booking -> promotionService.releaseRedemption(booking.getPromotionId()));
+                throw ex;
+            }
+            // Claims only fail here when another request took the same days after the claimed-days read.
+            Set<String> lost = reservationService.reserveAll(inserted);
+            if (!lost.isEmpty()) {
+                bookingRepository.deleteAllById(lost);
+            }
+            List<Booking> created = new ArrayList<>();
+            List<Payment> payments = new ArrayList<>();
+            for (int position = 0; position < inserted.size(); position++) {
+                int index = indexes.get(position);
+                Booking booking = inserted.get(position);
+                if (lost.contains(booking.getId())) {
+                    promotionService.releaseRedemption(booking.getPromotionId());
+                    results[index] = failedItem(index, new BusinessException(ErrorCode.VEHICLE_NOT_AVAILABLE));
+                    continue;
+                }
+                availabilityIndex.apply(booking);
+                created.add(booking);
+                Payment payment = initialPayments.get(index);
+                if (payment != null) {
+                    payment.setBookingId(booking.getId());
+                    payments.add(payment);
+                }
+                BulkBookingItemResponse.BulkBookingItemResponseBuilder item = BulkBookingItemResponse.builder()
+                        .index(index)
+                        .created(true)
+                        .booking(BookingMapper.toResponse(booking));
+                BusinessException paymentError = paymentErrors.get(index);
+                if (paymentError != null) {
+                    item.errorCode(paymentError.getErrorCode().getCode()).message(paymentError.getMessage());
+                }
+                results[index] = item.build();
+            }
+            statsService.recordCreated(created);
+            if (!payments.isEmpty()) {
+                paymentRepository.insert(payments);
+            }
+        }
+
+        List<BulkBookingItemResponse> items = List.of(results);
+        int createdCount = (int) items.stream().filter(BulkBookingItemResponse::isCreated).count();
+        return BulkCreateBookingResponse.builder()
+                .createdCount(createdCount)
+                .failedCount(items.size() - createdCount)
+                .results(items)
+                .build();
+    }
+
+    @Override
+    public BookingResponse recordPayment(final String bookingId,
+                                         final RecordBookingPaymentRequest request,
+                                         final String adminId) {
+        if (request == null || request.getAmount() == null || request.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new BusinessException(ErrorCode.PAYMENT_AMOUNT_INVALID);
+        }
+        Booking booking = bookingRepository.findById(bookingId)
+                .orElseThrow(() -> new EntityNotFoundException("Booking not found"));
+        BookingStatsService.Snapshot previous = BookingStatsService.Snapshot.of(booking);
+        Payment payment = addPayment(booking, request);
+        Booking saved = updateAndIndex(booking, new Update()
+                .set("paid_amount", booking.getPaidAmount())
+                .set("payment_history", booking.getPaymentHistory())
+                .set("payment_status", booking.getPaymentStatus()), previous);
+        paymentRepository.save(payment);
+
+        return BookingMapper.toResponse(saved);
+    }
+
+    @Override
+    public BookingAdminStatsResponse getAdminStats() {
+        BookingStats stats = statsService.getStats();
+        return BookingAdminStatsResponse.builder()
+                .pendingCount(stats.getPendingCount())
+                .approvedCount(stats.getConfirmedCount())
+                .activeCount(stats.getActiveCount())
+                .completedCount(stats.getCompletedCount())
+                .unpaidCount(stats.getUnpaidCount())
+                .partialCount(stats.getPartialCount())
+                .paidCount(stats.getPaidCount())
+                .collectedAmount(Money.toBigDecimal(Money.toMinorUnits(stats.getCollectedAmount())))
+                .pendingAmount(Money.toBigDecimal(Money.toMinorUnits(stats.getPendingAmount())))
+                .build();
+    }
+
+    @Override
+    public void exportCsv(final BookingSearchCriteria criteria, final OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        try (Stream<Booking> bookings = bookingRepository.streamForExport(criteria)) {
+            Iterator<Booking> iterator = bookings.iterator();
+            while (iterator.hasNext()) {
+                writeCsvRow(writer, iterator.next());
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeCsvRow(final Writer writer, final Booking booking) throws IOException {
+        writer.append(nullSafe(booking.getId())).append(',')
+                .append(csv(booking.getCustomerName())).append(',')
+                .append(csv(booking.getCustomerEmail())).append(',')
+                .append(csv(booking.getCustomerPhone())).append(',')
+                .append(csv(booking.getVehicleName())).append(',')
+                .append(nullSafe(booking.getStartDate())).append(',')
+                .append(nullSafe(booking.getEndDate())).append(',')
+                .append(booking.getStatus() != null ? booking.getStatus().name() : "").append(',')
+                .append(booking.getPaymentStatus() != null ? booking.getPaymentStatus().name() : "").append(',')
+                .append(nullSafe(booking.getPricing() != null ? booking.getPricing().getTotal() : null)).append(',')
+                .append(nullSafe(booking.getPaidAmount())).append(',')
+                .append(booking.getBookingCreatedBy() != null ? booking.getBookingCreatedBy().name() : "").append(',')
+                .append(nullSafe(booking.getCreatedDate()))
+                .append('\n');
+    }
+
+    @Override
+    public BookingResponse updateStatus(final String bookingId, final BookingStatus status) {
+        Booking booking = bookingRepository.findById(bookingId)
+                .orElseThrow(() -> new EntityNotFoundException("Booking not found"));
+        BookingStatsService.Snapshot previous = BookingStatsService.Snapshot.of(booking);
+        BookingStatus previousStatus = booking.getStatus();
+        boolean wasBlocking = BookingAvailabilityIndex.BLOCKING_STATUSES.contains(previousStatus);
+        boolean blocking = BookingAvailabilityIndex.BLOCKING_STATUSES.contains(status);
+        // Canceling gave the promotion use back, so a booking brought back from CANCELED redeems its code again
+        // and the transition is rejected if the promotion no longer allows it.
+        boolean reactivated = previousStatus == BookingStatus.CANCELED && status != BookingStatus.CANCELED;
+        Update update = new Update().set("status", status);
+        String promotionId = null;
+        if (reactivated) {
+            promotionId = promotionService.redeem(booking.getPromoCode());
+            update.set("promotion_id", promotionId);
+        }
+        Booking saved;
+        try {
+            if (blocking && !wasBlocking) {
+                reservationService.reserve(booking.getId(), booking.getVehicleId(), booking.getStartDate(), booking.getEndDate());
+            }
+            try {
+                saved = updateAndIndex(booking, update, previous);
+            } catch (BusinessException ex) {
+                if (blocking && !wasBlocking) {
+                    reservationService.release(booking.getId());
+                }
+                throw ex;
+            }
+        } catch (RuntimeException ex) {
+            promotionService.releaseRedemption(promotionId);
+            throw ex;
+        }
+        if (wasBlocking && !blocking) {
+            reservationService.release(saved.getId());
+        }
+        if (status == BookingStatus.CANCELED && previousStatus != BookingStatus.CANCELED) {
+            promotionService.releaseRedemption(saved.getPromotionId());
+        }
+        return BookingMapper.toResponse(saved);
+    }
+
+    private void validateDateRange(final LocalDate startDate, final LocalDate endDate) {
+        if (startDate == null || endDate == null || !startDate.isBefore(endDate)) {
+            throw new BusinessException(ErrorCode.INVALID_DATE_RANGE);
+        }
+        // Bounds the number of day claims a single booking can insert.
+        if (ChronoUnit.DAYS.between(startDate, endDate) > pricingProperties.getMaxRentalDays()) {
+            throw new BusinessException(ErrorCode.RENTAL_PERIOD_TOO_LONG);
+        }
+    }
+
+    private void ensureAvailability(final String vehicleId, final LocalDate startDate, final LocalDate endDate) {
+        if (availabilityIndex.isReady()) {
+            if (!availabilityIndex.isAvailable(vehicleId, startDate, endDate)) {
+                throw new BusinessException(ErrorCode.VEHICLE_NOT_AVAILABLE);
+            }
+            return;
+        }
+        if (bookingRepository.existsOverlappingForVehicle(vehicleId, startDate, endDate,
+                BookingAvailabilityIndex.BLOCKING_STATUSES)) {
             throw new BusinessException(ErrorCode.VEHICLE_NOT_AVAILABLE);
         }
+    }
 
-        ensureAvailability(vehicle.getId(), request.getStartDate(), request.getEndDate());
+    /**
+     * Persists a new booking and claims its vehicle days. A booking that loses the claim race is removed again.
+     */
+    private Booking saveReserved(final Booking booking) {
+        Booking saved = bookingRepository.save(booking);
+        try {
+            reservationService.reserve(saved.getId(), saved.getVehicleId(), saved.getStartDate(), saved.getEndDate());
+        } catch (BusinessException ex) {
+            bookingRepository.deleteById(saved.getId());
+            throw ex;
+        }
+        availabilityIndex.apply(saved);
+        statsService.record(null, saved);
+        return saved;
+    }
+
+    /**
+     * Counts the promo code redemption before saving, and gives it back if the booking cannot be created.
+     */
+    private Booking saveRedeemed(final Booking booking) {
+        booking.setPromotionId(promotionService.redeem(booking.getPromoCode()));
+        try {
+            return saveReserved(booking);
+        } catch (RuntimeException ex) {
+            promotionService.releaseRedemption(booking.getPromotionId());
+            throw ex;
+        }
+    }
+
+    /**
+     * Applies {@code update} only if no other writer (such as the lifecycle job) changed the booking's status since
+     * it was read, so a stale copy never overwrites a newer status.
+     */
+    private Booking updateAndIndex(final Booking booking,
+                                   final Update update,
+                                   final BookingStatsService.Snapshot previous) {
+        Booking saved = bookingRepository.updateIfStatus(booking.getId(), booking.getStatus(), update)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BOOKING_STATUS_CHANGED));
+        availabilityIndex.apply(saved);
+        statsService.record(previous, saved);
+        return saved;
+    }
+
+    /**
+     * Validates the vehicle and prices an admin booking request; availability is left to the caller.
+     */
+    private Booking buildAdminBooking(final AdminCreateBookingRequest request, final User customer, final Vehicle vehicle) {
+        if (vehicle.getStatus() == VehicleStatus.INACTIVE || vehicle.getStatus() == VehicleStatus.MAINTENANCE) {
+            throw new BusinessException(ErrorCode.VEHICLE_NOT_AVAILABLE);
+        }
 
         BookingPricing pricing = calculatePricing(vehicle, CreateBookingRequest.builder()
                 .vehicleId(request.getVehicleId())
@@ -170,7 +581,7 @@ public class BookingServiceImpl implements BookingService {
                 .promoCode(request.getPromoCode())
                 .build());
 
-        Booking booking = Booking.builder()
+        return Booking.builder()
                 .userId(request.getCustomerId())
                 .customerName(buildCustomerName(customer))
                 .customerEmail(customer.getEmail())
@@ -190,45 +601,47 @@ public class BookingServiceImpl implements BookingService {
                 .promoCode(request.getPromoCode())
                 .pricing(pricing)
                 .build();
+    }
 
-        Booking saved = bookingRepository.save(booking);
-
-        if (request.getInitialPayment() != null && request.getInitialPayment().compareTo(BigDecimal.ZERO) > 0) {
-            recordPayment(saved.getId(),
-                    buildAdminPaymentRequest(request.getInitialPayment(), request.getPaymentMethod(), "Initial payment"),
-                    adminId);
-            return BookingMapper.toResponse(bookingRepository.findById(saved.getId())
-                    .orElse(saved));
+    /**
+     * Adds the request's initial payment to a booking before it is saved, and returns the payment record to store
+     * once the booking has an id, or null when the request carries no initial payment.
+     */
+    private Payment addInitialPayment(final Booking booking, final AdminCreateBookingRequest request) {
+        if (request.getInitialPayment() == null || request.getInitialPayment().compareTo(BigDecimal.ZERO) <= 0) {
+            return null;
         }
-
-        return BookingMapper.toResponse(saved);
+        return addPayment(booking,
+                buildAdminPaymentRequest(request.getInitialPayment(), request.getPaymentMethod(), "Initial payment"));
     }
 
-    @Override
-    public BookingResponse recordPayment(final String bookingId,
-                                         final RecordBookingPaymentRequest request,
-                                         final String adminId) {
-        if (request == null || request.getAmount() == null || request.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+    /**
+     * Validates a manual payment against what is still owed, adds it to the booking's paid amount, history and
+     * payment status, and returns the matching payment record; the booking itself is not written.
+     */
+    private Payment addPayment(final Booking booking, final RecordBookingPaymentRequest request) {
+        String currency = booking.getPricing() != null && booking.getPricing().getCurrency() != null
+                ? booking.getPricing().getCurrency()
+                : pricingProperties.getCurrency();
+        Money amount = Money.of(request.getAmount(), currency);
+        if (amount.signum() <= 0) {
             throw new BusinessException(ErrorCode.PAYMENT_AMOUNT_INVALID);
         }
-        Booking booking = bookingRepository.findById(bookingId)
-                .orElseThrow(() -> new EntityNotFoundException("Booking not found"));
-
-        BigDecimal total = booking.getPricing() != null ? booking.getPricing().getTotal() : BigDecimal.ZERO;
-        BigDecimal paidAmount = booking.getPaidAmount() != null ? booking.getPaidAmount() : BigDecimal.ZERO;
-        BigDecimal remaining = total.subtract(paidAmount);
-        if (remaining.compareTo(BigDecimal.ZERO) > 0 && request.getAmount().compareTo(remaining) > 0) {
+        Money total = Money.of(booking.getPricing() != null ? booking.getPricing().getTotal() : null, currency);
+        Money paidAmount = Money.of(booking.getPaidAmount(), currency);
+        Money remaining = total.minus(paidAmount);
+        if (remaining.signum() > 0 && amount.isGreaterThan(remaining)) {
             throw new BusinessException(ErrorCode.PAYMENT_AMOUNT_INVALID);
         }
-        BigDecimal newPaid = paidAmount.add(request.getAmount());
-        booking.setPaidAmount(newPaid);
+        Money newPaid = paidAmount.plus(amount);
+        booking.setPaidAmount(newPaid.toBigDecimal());
 
         List<BookingPaymentEntry> history = booking.getPaymentHistory();
         if (history == null) {
             history = new ArrayList<>();
         }
         history.add(BookingPaymentEntry.builder()
-                .amount(request.getAmount())
+                .amount(amount.toBigDecimal())
                 .date(LocalDateTime.now())
                 .method(request.getMethod().name())
                 .note(request.getNote())
@@ -236,157 +649,60 @@ public class BookingServiceImpl implements BookingService {
         booking.setPaymentHistory(history);
 
         booking.setPaymentStatus(resolvePaymentStatus(newPaid, total));
-        bookingRepository.save(booking);
-
-        Payment payment = Payment.builder()
+        return Payment.builder()
                 .bookingId(booking.getId())
                 .userId(booking.getUserId())
-                .amount(request.getAmount())
-                .currency(booking.getPricing() != null ? booking.getPricing().getCurrency() : pricingProperties.getCurrency())
+                .amount(amount.toBigDecimal())
+                .currency(currency)
                 .provider(PaymentProvider.MANUAL)
                 .method(request.getMethod())
                 .status(PaymentStatus.PAID)
                 .paidAt(LocalDateTime.now())
                 .build();
-        paymentRepository.save(payment);
-
-        return BookingMapper.toResponse(booking);
-    }
-
-    @Override
-    public BookingAdminStatsResponse getAdminStats() {
-        List<Booking> bookings = bookingRepository.findAll();
-        BigDecimal collected = BigDecimal.ZERO;
-        BigDecimal pendingAmount = BigDecimal.ZERO;
-        long unpaidCount = 0;
-        long partialCount = 0;
-        long paidCount = 0;
-        for (Booking booking : bookings) {
-            BigDecimal total = booking.getPricing() != null ? booking.getPricing().getTotal() : BigDecimal.ZERO;
-            BigDecimal paid = booking.getPaidAmount() != null ? booking.getPaidAmount() : BigDecimal.ZERO;
-            collected = collected.add(paid);
-            BigDecimal remaining = total.subtract(paid);
-            if (remaining.compareTo(BigDecimal.ZERO) > 0) {
-                pendingAmount = pendingAmount.add(remaining);
-            }
-            if (booking.getPaymentStatus() == BookingPaymentStatus.UNPAID) {
-                unpaidCount++;
-            } else if (booking.getPaymentStatus() == BookingPaymentStatus.PARTIAL) {
-                partialCount++;
-            } else if (booking.getPaymentStatus() == BookingPaymentStatus.PAID) {
-                paidCount++;
-            }
-        }
-
-        return BookingAdminStatsResponse.builder()
-                .pendingCount(bookingRepository.countByStatus(BookingStatus.PENDING))
-                .approvedCount(bookingRepository.countByStatus(BookingStatus.CONFIRMED))
-                .activeCount(bookingRepository.countByStatus(BookingStatus.ACTIVE))
-                .completedCount(bookingRepository.countByStatus(BookingStatus.COMPLETED))
-                .unpaidCount(unpaidCount)
-                .partialCount(partialCount)
-                .paidCount(paidCount)
-                .collectedAmount(collected)
-                .pendingAmount(pendingAmount)
-                .build();
-    }
-
-    @Override
-    public String exportCsv(final BookingSearchCriteria criteria) {
-        List<Booking> bookings = bookingRepository.search(criteria, Pageable.unpaged()).getContent();
-        StringBuilder builder = new StringBuilder();
-        builder.append("id,customerName,customerEmail,customerPhone,vehicleName,startDate,endDate,status,paymentStatus,total,paidAmount,createdBy,createdDate\n");
-        for (Booking booking : bookings) {
-            builder.append(nullSafe(booking.getId())).append(',')
-                    .append(csv(booking.getCustomerName())).append(',')
-                    .append(csv(booking.getCustomerEmail())).append(',')
-                    .append(csv(booking.getCustomerPhone())).append(',')
-                    .append(csv(booking.getVehicleName())).append(',')
-                    .append(nullSafe(booking.getStartDate())).append(',')
-                    .append(nullSafe(booking.getEndDate())).append(',')
-                    .append(booking.getStatus() != null ? booking.getStatus().name() : "").append(',')
-                    .append(booking.getPaymentStatus() != null ? booking.getPaymentStatus().name() : "").append(',')
-                    .append(nullSafe(booking.getPricing() != null ? booking.getPricing().getTotal() : null)).append(',')
-                    .append(nullSafe(booking.getPaidAmount())).append(',')
-                    .append(booking.getCreatedBy() != null ? booking.getBookingCreatedBy().name() : "").append(',')
-                    .append(nullSafe(booking.getCreatedDate()))
-                    .append('\n');
-        }
-        return builder.toString();
     }
 
-    @Override
-    public BookingResponse updateStatus(final String bookingId, final BookingStatus status) {
-        Booking booking = bookingRepository.findById(bookingId)
-                .orElseThrow(() -> new EntityNotFoundException("Booking not found"));
-        booking.setStatus(status);
-        return BookingMapper.toResponse(bookingRepository.save(booking));
-    }
-
-    private void validateDateRange(final LocalDate startDate, final LocalDate endDate) {
-        if (startDate == null || endDate == null || !startDate.isBefore(endDate)) {
-            throw new BusinessException(ErrorCode.INVALID_DATE_RANGE);
-        }
-    }
-
-    private void ensureAvailability(final String vehicleId, final LocalDate startDate, final LocalDate endDate) {
-        List<BookingStatus> activeStatuses = List.of(BookingStatus.CONFIRMED, BookingStatus.ACTIVE);
-        Set<String> reservedVehicleIds = bookingRepository
-                .findByOverlappingDates(startDate, endDate, activeStatuses)
-                .stream()
-                .map(Booking::getVehicleId)
+    private Set<String> distinctIds(final List<AdminCreateBookingRequest> requests,
+                                    final Function<AdminCreateBookingRequest, String> id) {
+        return requests.stream()
+                .map(id)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
+    }
 
-        if (reservedVehicleIds.contains(vehicleId)) {
-            throw new BusinessException(ErrorCode.VEHICLE_NOT_AVAILABLE);
-        }
+    private BulkBookingItemResponse failedItem(final int index, final RuntimeException ex) {
+        String code = ex instanceof BusinessException business ? business.getErrorCode().getCode() : "ENTITY_NOT_FOUND";
+        return BulkBookingItemResponse.builder()
+                .index(index)
+                .created(false)
+                .errorCode(code)
+                .message(ex.getMessage())
+                .build();
     }
 
     private BookingPricing calculatePricing(final Vehicle vehicle, final CreateBookingRequest request) {
-        int days = Math.toIntExact(ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()));
-        BigDecimal dailyRate = vehicle.getDailyRate();
-        BigDecimal base = dailyRate.multiply(BigDecimal.valueOf(days));
-
-        BigDecimal extrasTotal = BookingMapper.toExtras(request.getExtras())
-                .stream()
-                .map(extra -> {
-                    BigDecimal price = extra.getPricePerDay() != null ? extra.getPricePerDay() : BigDecimal.ZERO;
-                    int quantity = extra.getQuantity() != null ? extra.getQuantity() : 1;
-                    return price.multiply(BigDecimal.valueOf(quantity)).multiply(BigDecimal.valueOf(days));
-                })
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal subtotal = base.add(extrasTotal);
-        BigDecimal discount = promotionService.calculateDiscount(request.getPromoCode(), subtotal);
-        BigDecimal fees = pricingProperties.getFees() != null ? pricingProperties.getFees() : BigDecimal.ZERO;
-        BigDecimal taxRate = pricingProperties.getTaxRate() != null ? pricingProperties.getTaxRate() : BigDecimal.ZERO;
-        BigDecimal taxable = subtotal.subtract(discount).max(BigDecimal.ZERO);
-        BigDecimal taxes = taxable.multiply(taxRate);
-        BigDecimal total = taxable.add(taxes).add(fees);
-
-        return BookingPricing.builder()
-                .dailyRate(dailyRate)
-                .days(days)
-                .extrasTotal(scale(extrasTotal))
-                .subtotal(scale(subtotal))
-                .discount(scale(discount))
-                .taxes(scale(taxes))
-                .fees(scale(fees))
-                .total(scale(total))
-                .deposit(vehicle.getDeposit() != null ? scale(vehicle.getDeposit()) : BigDecimal.ZERO)
-                .currency(pricingProperties.getCurrency())
-                .build();
+        PricingInput input = new PricingInput(
+                vehicle,
+                request.getStartDate(),
+                request.getEndDate(),
+                BookingMapper.toExtras(request.getExtras()),
+                request.getPickupLocationId());
+        return pricingEngine.quote(input, subtotal -> promotionService.calculateDiscount(request.getPromoCode(), subtotal));
     }
 
-    private BigDecimal scale(final BigDecimal value) {
-        return value.setScale(2, RoundingMode.HALF_UP);
+    private boolean hasSearchFilters(final BookingSearchCriteria criteria) {
+        return criteria != null
+                && ((criteria.getQuery() != null && !criteria.getQuery().isBlank())
+                || criteria.getStatus() != null
+                || criteria.getPaymentStatus() != null
+                || criteria.getStartDate() != null
+                || criteria.getEndDate() != null);
     }
 
-    private BookingPaymentStatus resolvePaymentStatus(final BigDecimal paid, final BigDecimal total) {
-        if (paid == null || paid.compareTo(BigDecimal.ZERO) <= 0) {
+    private BookingPaymentStatus resolvePaymentStatus(final Money paid, final Money total) {
+        if (paid.signum() <= 0) {
             return BookingPaymentStatus.UNPAID;
         }
-        if (total != null && paid.compareTo(total) >= 0) {
+        if (paid.compareTo(total) >= 0) {
             return BookingPaymentStatus.PAID;
         }
         return BookingPaymentStatus.PARTIAL;
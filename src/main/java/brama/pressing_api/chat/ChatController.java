@@ -6,6 +6,7 @@ import brama.pressing_api.chat.dto.request.SendChatMessageRequest;
 import brama.pressing_api.chat.dto.response.ChatConversationResponse;
 import brama.pressing_api.chat.dto.response.ChatMessageResponse;
 import brama.pressing_api.chat.service.ChatService;
+import brama.pressing_api.common.CursorPageResponse;
 import brama.pressing_api.user.User;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -22,6 +23,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -47,6 +49,17 @@ public class ChatController {
         return chatService.listConversations(getUserId(authentication));
     }
 
+    /**
+     * Lists the user's conversations by most recent message, one page at a time. Pass the previous page's
+     * {@code nextCursor} as {@code after} (omitted for the first page).
+     */
+    @GetMapping("/inbox")
+    public CursorPageResponse<ChatConversationResponse> listInbox(@RequestParam(required = false) String after,
+                                                                  @RequestParam(defaultValue = "20") int size,
+                                                                  final Authentication authentication) {
+        return chatService.listInbox(getUserId(authentication), after, size);
+    }
+
     @GetMapping("/conversations/{id}/messages")
     public Page<ChatMessageResponse> listMessages(@PathVariable String id,
                                                   Pageable pageable,
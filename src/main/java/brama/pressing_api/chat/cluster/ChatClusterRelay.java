@@ -0,0 +1,115 @@
+package brama.pressing_api.chat.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.io.IOException;
+
+/**
+ * Carries broker messages between instances over Redis pub/sub. The in-memory broker only reaches sessions
+ * connected to its own JVM, so every message the application sends is also published here: a user destination
+ * goes to the channel of each other instance the session directory lists for that user, and a topic goes to the
+ * broadcast channel. Received messages are put back on the local broker channel, marked so they are not relayed
+ * again.
+ */
+@Component
+@ConditionalOnProperty(name = "app.chat.cluster.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ChatClusterRelay implements ChannelInterceptor, MessageListener {
+    public static final String INSTANCE_CHANNEL_PREFIX = "chat:relay:";
+    public static final String BROADCAST_CHANNEL = "chat:relay:broadcast";
+
+    private static final String RELAYED_HEADER = "chatRelayed";
+    private static final String USER_PREFIX = "/user/";
+    private static final String TOPIC_PREFIX = "/topic/";
+
+    private final ChatSessionDirectory sessionDirectory;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    // Resolved on first use: the template is built from the broker configuration this relay is registered with.
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+
+    public String instanceChannel() {
+        return INSTANCE_CHANNEL_PREFIX + sessionDirectory.instanceId();
+    }
+
+    @Override
+    public Message<?> preSend(final Message<?> message, final MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        if (destination == null
+                || accessor.getMessageType() != SimpMessageType.MESSAGE
+                || accessor.getHeader(RELAYED_HEADER) != null
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+        if (destination.startsWith(TOPIC_PREFIX)) {
+            publish(BROADCAST_CHANNEL, destination, accessor, payload);
+        } else if (destination.startsWith(USER_PREFIX)) {
+            int userEnd = destination.indexOf('/', USER_PREFIX.length());
+            if (userEnd < 0) {
+                return message;
+            }
+            String user = destination.substring(USER_PREFIX.length(), userEnd);
+            for (String instance : sessionDirectory.findRemoteInstances(user)) {
+                publish(INSTANCE_CHANNEL_PREFIX + instance, destination, accessor, payload);
+            }
+        }
+        return message;
+    }
+
+    @Override
+    public void onMessage(final org.springframework.data.redis.connection.Message message, final byte[] pattern) {
+        RelayEnvelope envelope;
+        try {
+            envelope = objectMapper.readValue(message.getBody(), RelayEnvelope.class);
+        } catch (IOException ex) {
+            log.warn("Dropping unreadable chat relay message: {}", ex.getMessage());
+            return;
+        }
+        if (sessionDirectory.instanceId().equals(envelope.origin())) {
+            return;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(envelope.destination());
+        if (envelope.contentType() != null) {
+            accessor.setContentType(MimeType.valueOf(envelope.contentType()));
+        }
+        accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+        messagingTemplate.getObject().getMessageChannel()
+                .send(MessageBuilder.createMessage(envelope.payload(), accessor.getMessageHeaders()));
+    }
+
+    private void publish(final String channel,
+                         final String destination,
+                         final SimpMessageHeaderAccessor accessor,
+                         final byte[] payload) {
+        MimeType contentType = accessor.getContentType();
+        RelayEnvelope envelope = new RelayEnvelope(sessionDirectory.instanceId(), destination,
+                contentType != null ? contentType.toString() : null, payload);
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(envelope));
+        } catch (IOException | RuntimeException ex) {
+            // Local delivery goes ahead regardless; only sessions on other instances miss this message.
+            log.warn("Could not relay chat message to {}: {}", channel, ex.getMessage());
+        }
+    }
+
+    private record RelayEnvelope(String origin, String destination, String contentType, byte[] payload) {
+    }
+}
@@ -0,0 +1,39 @@
+package brama.pressing_api.chat.cluster;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Cluster view of which application instances hold chat sessions for a user. Each instance reports only the
+ * users it has sessions for; {@link brama.pressing_api.chat.service.UserPresenceService} keeps the local count.
+ */
+public interface ChatSessionDirectory {
+    String instanceId();
+
+    /**
+     * Records that this instance now holds sessions for the user; returns true if no other instance did.
+     */
+    boolean register(String userId);
+
+    /**
+     * Records that this instance no longer holds sessions for the user; returns true if no other instance does.
+     */
+    boolean unregister(String userId);
+
+    /**
+     * Whether any other instance holds a session for the user.
+     */
+    boolean isOnlineElsewhere(String userId);
+
+    /**
+     * The subset of the given users with a session on another instance.
+     */
+    Set<String> findOnlineElsewhere(Collection<String> userIds);
+
+    Set<String> findRemoteInstances(String userId);
+
+    /**
+     * Extends this instance's claim on the given users before it expires.
+     */
+    void heartbeat(Collection<String> userIds);
+}
@@ -0,0 +1,48 @@
+package brama.pressing_api.chat.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Single-instance directory used when {@code app.chat.cluster.enabled} is off: there is never another instance.
+ */
+@Service
+@ConditionalOnProperty(name = "app.chat.cluster.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalChatSessionDirectory implements ChatSessionDirectory {
+    @Override
+    public String instanceId() {
+        return "local";
+    }
+
+    @Override
+    public boolean register(final String userId) {
+        return true;
+    }
+
+    @Override
+    public boolean unregister(final String userId) {
+        return true;
+    }
+
+    @Override
+    public boolean isOnlineElsewhere(final String userId) {
+        return false;
+    }
+
+    @Override
+    public Set<String> findOnlineElsewhere(final Collection<String> userIds) {
+        return Set.of();
+    }
+
+    @Override
+    public Set<String> findRemoteInstances(final String userId) {
+        return Set.of();
+    }
+
+    @Override
+    public void heartbeat(final Collection<String> userIds) {
+    }
+}
@@ -0,0 +1,142 @@
+package brama.pressing_api.chat.cluster;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps one sorted set per user, {@code chat:presence:<userId>}, whose members are the ids of the instances
+ * holding sessions for that user, scored by the time their claim expires. Instances refresh their claims with
+ * a heartbeat, so the members of a crashed instance stop counting once their score has passed and the key
+ * itself expires when nobody refreshes it.
+ */
+@Service
+@ConditionalOnProperty(name = "app.chat.cluster.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class RedisChatSessionDirectory implements ChatSessionDirectory {
+    private static final String KEY_PREFIX = "chat:presence:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Value("${app.chat.cluster.presence-ttl:PT30S}")
+    private Duration presenceTtl;
+
+    @Override
+    public String instanceId() {
+        return instanceId;
+    }
+
+    @Override
+    public boolean register(final String userId) {
+        String key = key(userId);
+        long now = System.currentTimeMillis();
+        ZSetOperations<String, String> instances = redisTemplate.opsForZSet();
+        instances.removeRangeByScore(key, Double.NEGATIVE_INFINITY, now);
+        boolean onlineElsewhere = !others(instances.rangeByScore(key, now, Double.POSITIVE_INFINITY)).isEmpty();
+        instances.add(key, instanceId, now + presenceTtl.toMillis());
+        redisTemplate.expire(key, presenceTtl);
+        return !onlineElsewhere;
+    }
+
+    @Override
+    public boolean unregister(final String userId) {
+        String key = key(userId);
+        redisTemplate.opsForZSet().remove(key, instanceId);
+        Long remaining = redisTemplate.opsForZSet().count(key, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        return remaining == null || remaining == 0;
+    }
+
+    @Override
+    public boolean isOnlineElsewhere(final String userId) {
+        return !findRemoteInstances(userId).isEmpty();
+    }
+
+    @Override
+    public Set<String> findOnlineElsewhere(final Collection<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Set.of();
+        }
+        List<String> ordered = new ArrayList<>(userIds);
+        double now = System.currentTimeMillis();
+        List<Object> members = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String userId : ordered) {
+                connection.zSetCommands().zRangeByScore(bytes(key(userId)), now, Double.POSITIVE_INFINITY);
+            }
+            return null;
+        });
+        Set<String> online = new HashSet<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            if (members.get(i) instanceof Collection<?> instances && !others(instances).isEmpty()) {
+                online.add(ordered.get(i));
+            }
+        }
+        return online;
+    }
+
+    @Override
+    public Set<String> findRemoteInstances(final String userId) {
+        return others(redisTemplate.opsForZSet()
+                .rangeByScore(key(userId), System.currentTimeMillis(), Double.POSITIVE_INFINITY));
+    }
+
+    @Override
+    public void heartbeat(final Collection<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
+        double expiresAt = System.currentTimeMillis() + presenceTtl.toMillis();
+        byte[] member = bytes(instanceId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String userId : userIds) {
+                refresh(connection, bytes(key(userId)), member, expiresAt);
+            }
+            return null;
+        });
+    }
+
+    private void refresh(final RedisConnection connection,
+                         final byte[] key,
+                         final byte[] member,
+                         final double expiresAt) {
+        connection.zSetCommands().zAdd(key, expiresAt, member);
+        connection.keyCommands().pExpire(key, presenceTtl.toMillis());
+    }
+
+    private Set<String> others(final Collection<?> instances) {
+        Set<String> others = new HashSet<>();
+        if (instances != null) {
+            for (Object instance : instances) {
+                String id = instance instanceof byte[] raw
+                        ? new String(raw, StandardCharsets.UTF_8)
+                        : String.valueOf(instance);
+                if (!instanceId.equals(id)) {
+                    others.add(id);
+                }
+            }
+        }
+        return others;
+    }
+
+    private static String key(final String userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
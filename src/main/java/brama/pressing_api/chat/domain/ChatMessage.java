@@ -24,7 +24,8 @@ import java.util.Map;
 @SuperBuilder
 @CompoundIndexes({
         @CompoundIndex(name = "conversation_created_idx", def = "{'conversation_id': 1, 'created_date': -1}"),
-        @CompoundIndex(name = "recipient_status_idx", def = "{'conversation_id': 1, 'recipient_id': 1, 'created_date': -1}")
+        @CompoundIndex(name = "recipient_status_idx", def = "{'conversation_id': 1, 'recipient_id': 1, 'created_date': -1}"),
+        @CompoundIndex(name = "recipient_id_idx", def = "{'conversation_id': 1, 'recipient_id': 1, '_id': 1}")
 })
 public class ChatMessage extends BaseDocument {
     @Field("conversation_id")
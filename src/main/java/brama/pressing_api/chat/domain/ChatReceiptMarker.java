@@ -0,0 +1,33 @@
+package brama.pressing_api.chat.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * How far one participant has received and read a conversation: every message addressed to them up to the
+ * given message id carries at least that receipt.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatReceiptMarker {
+    @Field("last_delivered_message_id")
+    private String lastDeliveredMessageId;
+
+    @Field("last_delivered_at")
+    private LocalDateTime lastDeliveredAt;
+
+    @Field("last_read_message_id")
+    private String lastReadMessageId;
+
+    @Field("last_read_at")
+    private LocalDateTime lastReadAt;
+}
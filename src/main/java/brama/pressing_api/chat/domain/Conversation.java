@@ -6,7 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
-import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -15,6 +15,7 @@ import java.util.List;
 import java.util.Map;
 
 @Document(collection = "conversations")
+@CompoundIndex(name = "participant_last_message_idx", def = "{'participant_ids': 1, 'last_message_at': -1, '_id': -1}")
 @Getter
 @Setter
 @AllArgsConstructor
@@ -22,7 +23,6 @@ import java.util.Map;
 @SuperBuilder
 public class Conversation extends BaseDocument {
     @Field("participant_ids")
-    @Indexed
     private List<String> participantIds;
 
     @Field("last_message_id")
@@ -39,4 +39,7 @@ public class Conversation extends BaseDocument {
 
     @Field("unread_counts")
     private Map<String, Integer> unreadCounts;
+
+    @Field("receipt_markers")
+    private Map<String, ChatReceiptMarker> receiptMarkers;
 }
@@ -3,11 +3,9 @@ package brama.pressing_api.chat.notification;
 import brama.pressing_api.chat.domain.ChatMessage;
 import brama.pressing_api.chat.domain.Conversation;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.stereotype.Service;
 
 @Service
-@ConditionalOnMissingBean(PushNotificationService.class)
 @Slf4j
 public class NoopPushNotificationService implements PushNotificationService {
     @Override
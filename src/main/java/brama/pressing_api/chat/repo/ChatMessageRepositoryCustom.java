@@ -0,0 +1,19 @@
+package brama.pressing_api.chat.repo;
+
+import brama.pressing_api.chat.domain.ChatMessageStatus;
+
+import java.time.LocalDateTime;
+
+public interface ChatMessageRepositoryCustom {
+    /**
+     * Raises the recipient's receipt to {@code status} on their messages of the conversation with an id after
+     * {@code afterMessageId} (from the start when null) up to {@code upToMessageId}, leaving receipts that are
+     * already at that status or beyond untouched. Returns the number of messages changed.
+     */
+    long markReceipts(String conversationId,
+                      String recipientId,
+                      String afterMessageId,
+                      String upToMessageId,
+                      ChatMessageStatus status,
+                      LocalDateTime timestamp);
+}
@@ -0,0 +1,48 @@
+package brama.pressing_api.chat.repo;
+
+import brama.pressing_api.chat.domain.ChatMessage;
+import brama.pressing_api.chat.domain.ChatMessageReceipt;
+import brama.pressing_api.chat.domain.ChatMessageStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public long markReceipts(final String conversationId,
+                             final String recipientId,
+                             final String afterMessageId,
+                             final String upToMessageId,
+                             final ChatMessageStatus status,
+                             final LocalDateTime timestamp) {
+        String receiptField = "receipts." + recipientId;
+        List<Criteria> filters = new ArrayList<>();
+        filters.add(Criteria.where("conversation_id").is(conversationId));
+        filters.add(Criteria.where("recipient_id").is(recipientId));
+        Criteria idRange = Criteria.where("_id").lte(upToMessageId);
+        if (afterMessageId != null) {
+            idRange.gt(afterMessageId);
+        }
+        filters.add(idRange);
+        // Statuses are ordered SENT < DELIVERED < READ; never move a receipt backwards.
+        filters.add(Criteria.where(receiptField + ".status")
+                .nin(EnumSet.range(status, ChatMessageStatus.READ).stream().map(Enum::name).toList()));
+
+        Update update = new Update().set(receiptField, ChatMessageReceipt.builder()
+                .status(status)
+                .timestamp(timestamp)
+                .build());
+        return mongoTemplate.updateMulti(new Query(new Criteria().andOperator(filters.toArray(new Criteria[0]))),
+                update, ChatMessage.class).getModifiedCount();
+    }
+}
@@ -7,7 +7,7 @@ import org.springframework.data.mongodb.repository.Query;
 import java.util.List;
 import java.util.Optional;
 
-public interface ConversationRepository extends MongoRepository<Conversation, String> {
+public interface ConversationRepository extends MongoRepository<Conversation, String>, ConversationRepositoryCustom {
     @Query("{'participant_ids': { $all: [?0, ?1] }}")
     Optional<Conversation> findDirectConversation(String userId, String otherUserId);
 
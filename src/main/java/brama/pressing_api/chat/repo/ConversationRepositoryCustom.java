@@ -0,0 +1,48 @@
+package brama.pressing_api.chat.repo;
+
+import brama.pressing_api.chat.domain.ChatMessageStatus;
+import brama.pressing_api.chat.domain.Conversation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ConversationRepositoryCustom {
+    /**
+     * Conversations of the user ordered by last message (newest first, then id descending, conversations without
+     * messages last), starting after the given position; a null id starts from the top.
+     */
+    List<Conversation> findInboxAfter(String userId, LocalDateTime lastMessageAt, String id, int limit);
+
+    /**
+     * Increments the recipient's unread count and, unless a more recent message is already recorded, sets the
+     * conversation's last message summary, in one update.
+     */
+    void recordMessage(String conversationId,
+                       String messageId,
+                       String senderId,
+                       String recipientId,
+                       String preview,
+                       LocalDateTime sentAt);
+
+    /**
+     * Refreshes the summary after an edit or delete, only while {@code messageId} is still the last message.
+     * Returns the updated conversation, or null when another message has become the last one.
+     */
+    Conversation updateLastMessagePreview(String conversationId,
+                                          String messageId,
+                                          String preview,
+                                          LocalDateTime updatedAt);
+
+    /**
+     * Moves the participant's delivered (and, for {@link ChatMessageStatus#READ}, read) marker forward to
+     * {@code messageId}; a marker already further along is kept. Reading also lowers the participant's unread count:
+     * it is cleared when {@code messageId} is still the last message, otherwise only the {@code newlyRead} messages
+     * are subtracted so that messages sent in the meantime stay counted; the count never goes below zero.
+     */
+    void advanceReceiptMarker(String conversationId,
+                              String userId,
+                              ChatMessageStatus status,
+                              String messageId,
+                              long newlyRead,
+                              LocalDateTime timestamp);
+}
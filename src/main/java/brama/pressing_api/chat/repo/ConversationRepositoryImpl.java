@@ -0,0 +1,148 @@
+package brama.pressing_api.chat.repo;
+
+import brama.pressing_api.chat.domain.ChatMessageStatus;
+import brama.pressing_api.chat.domain.Conversation;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ConversationRepositoryImpl implements ConversationRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Conversation> findInboxAfter(final String userId,
+                                             final LocalDateTime lastMessageAt,
+                                             final String id,
+                                             final int limit) {
+        List<Criteria> filters = new ArrayList<>();
+        filters.add(Criteria.where("participant_ids").is(userId));
+        if (id != null && lastMessageAt != null) {
+            filters.add(new Criteria().orOperator(
+                    Criteria.where("last_message_at").lt(lastMessageAt),
+                    new Criteria().andOperator(
+                            Criteria.where("last_message_at").is(lastMessageAt),
+                            Criteria.where("_id").lt(id)),
+                    Criteria.where("last_message_at").is(null)
+            ));
+        } else if (id != null) {
+            filters.add(Criteria.where("last_message_at").is(null));
+            filters.add(Criteria.where("_id").lt(id));
+        }
+        Query query = new Query(new Criteria().andOperator(filters.toArray(new Criteria[0])))
+                .with(Sort.by(Sort.Order.desc("last_message_at"), Sort.Order.desc("_id")))
+                .limit(limit);
+        return mongoTemplate.find(query, Conversation.class);
+    }
+
+    @Override
+    public void recordMessage(final String conversationId,
+                              final String messageId,
+                              final String senderId,
+                              final String recipientId,
+                              final String preview,
+                              final LocalDateTime sentAt) {
+        Object at = mongoTemplate.getConverter().convertToMongoType(sentAt);
+        // Sends can reach here out of order; the summary only moves to a message at least as recent as the
+        // current one (a missing last_message_at sorts before any date), while the unread count always grows.
+        Document newer = new Document("$lte", List.of("$last_message_at", at));
+        String unreadField = "unread_counts." + recipientId;
+        Document fields = new Document(unreadField, new Document("$add", List.of(
+                        new Document("$ifNull", List.of("$" + unreadField, 0)), 1)))
+                .append("last_message_id", latest(newer, messageId, "last_message_id"))
+                .append("last_message_sender_id", latest(newer, senderId, "last_message_sender_id"))
+                .append("last_message_preview", latest(newer, preview, "last_message_preview"))
+                .append("last_message_at", latest(newer, at, "last_message_at"));
+        mongoTemplate.updateFirst(byId(conversationId),
+                AggregationUpdate.from(List.of(context -> new Document("$set", fields))), Conversation.class);
+    }
+
+    @Override
+    public Conversation updateLastMessagePreview(final String conversationId,
+                                                 final String messageId,
+                                                 final String preview,
+                                                 final LocalDateTime updatedAt) {
+        Query query = new Query(Criteria.where("_id").is(conversationId).and("last_message_id").is(messageId));
+        Update update = new Update()
+                .set("last_message_preview", preview)
+                .set("last_message_at", updatedAt);
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true),
+                Conversation.class);
+    }
+
+    @Override
+    public void advanceReceiptMarker(final String conversationId,
+                                     final String userId,
+                                     final ChatMessageStatus status,
+                                     final String messageId,
+                                     final long newlyRead,
+                                     final LocalDateTime timestamp) {
+        if (status != ChatMessageStatus.READ) {
+            mongoTemplate.updateFirst(byId(conversationId), markerUpdate(userId, status, messageId, timestamp),
+                    Conversation.class);
+            return;
+        }
+        String unreadField = "unread_counts." + userId;
+        Query stillLatest = new Query(Criteria.where("_id").is(conversationId).and("last_message_id").is(messageId));
+        Update clear = markerUpdate(userId, status, messageId, timestamp).set(unreadField, 0);
+        if (mongoTemplate.updateFirst(stillLatest, clear, Conversation.class).getMatchedCount() > 0) {
+            return;
+        }
+        if (newlyRead <= 0) {
+            mongoTemplate.updateFirst(byId(conversationId), markerUpdate(userId, status, messageId, timestamp),
+                    Conversation.class);
+            return;
+        }
+        // A pipeline update so the count can be clamped: receipts racing with a clear must not take it below zero.
+        Object at = mongoTemplate.getConverter().convertToMongoType(timestamp);
+        String marker = "receipt_markers." + userId;
+        Document fields = new Document(unreadField, new Document("$max", List.of(0, new Document("$subtract", List.of(
+                        new Document("$ifNull", List.of("$" + unreadField, 0)), newlyRead)))))
+                .append(marker + ".last_delivered_message_id", atLeast(marker + ".last_delivered_message_id", messageId))
+                .append(marker + ".last_delivered_at", atLeast(marker + ".last_delivered_at", at))
+                .append(marker + ".last_read_message_id", atLeast(marker + ".last_read_message_id", messageId))
+                .append(marker + ".last_read_at", atLeast(marker + ".last_read_at", at));
+        mongoTemplate.updateFirst(byId(conversationId),
+                AggregationUpdate.from(List.of(context -> new Document("$set", fields))), Conversation.class);
+    }
+
+    private Update markerUpdate(final String userId,
+                                final ChatMessageStatus status,
+                                final String messageId,
+                                final LocalDateTime timestamp) {
+        String marker = "receipt_markers." + userId;
+        // Message ids are ObjectId hex strings of equal length, so $max keeps the most recent one.
+        Update update = new Update()
+                .max(marker + ".last_delivered_message_id", messageId)
+                .max(marker + ".last_delivered_at", timestamp);
+        if (status == ChatMessageStatus.READ) {
+            update.max(marker + ".last_read_message_id", messageId)
+                    .max(marker + ".last_read_at", timestamp);
+        }
+        return update;
+    }
+
+    // Values go through $literal so a preview starting with '$' is not read as a field path.
+    private static Document latest(final Document newer, final Object value, final String field) {
+        return new Document("$cond", List.of(newer, new Document("$literal", value), "$" + field));
+    }
+
+    // Same as Update.max: the larger of the stored value and the given one, which wins when nothing is stored.
+    private static Document atLeast(final String field, final Object value) {
+        return new Document("$max", List.of("$" + field, new Document("$literal", value)));
+    }
+
+    private Query byId(final String conversationId) {
+        return new Query(Criteria.where("_id").is(conversationId));
+    }
+}
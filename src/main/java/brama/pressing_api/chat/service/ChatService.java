@@ -5,6 +5,7 @@ import brama.pressing_api.chat.dto.request.EditChatMessageRequest;
 import brama.pressing_api.chat.dto.request.SendChatMessageRequest;
 import brama.pressing_api.chat.dto.response.ChatConversationResponse;
 import brama.pressing_api.chat.dto.response.ChatMessageResponse;
+import brama.pressing_api.common.CursorPageResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -15,6 +16,8 @@ public interface ChatService {
 
     List<ChatConversationResponse> listConversations(String userId);
 
+    CursorPageResponse<ChatConversationResponse> listInbox(String userId, String after, int size);
+
     Page<ChatMessageResponse> listMessages(String conversationId, Pageable pageable, String userId);
 
     ChatMessageResponse sendMessage(SendChatMessageRequest request, String senderId);
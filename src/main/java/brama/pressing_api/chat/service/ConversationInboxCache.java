@@ -0,0 +1,165 @@
+package brama.pressing_api.chat.service;
+
+import brama.pressing_api.chat.domain.Conversation;
+import brama.pressing_api.chat.repo.ConversationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-user, in-process order of the most recent {@code app.chat.inbox.cache-size} conversations, so the first
+ * inbox page is answered from memory plus one lookup of the conversations on it. Messages sent and edited through
+ * this instance move conversations to the top; an inbox is reloaded from Mongo after {@code app.chat.inbox.cache-ttl}.
+ * Each entry keeps the last message time it was ordered by, so a caller can tell from the loaded conversations
+ * whether one of them moved on another instance and fall back to Mongo. A conversation outside the held ones that
+ * becomes active on another instance is only seen after the reload.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConversationInboxCache {
+    private static final Comparator<InboxEntry> NEWEST_FIRST = Comparator
+            .comparing(InboxEntry::lastMessageAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(InboxEntry::conversationId)
+            .reversed();
+
+    private final ConversationRepository conversationRepository;
+    private final Map<String, UserInbox> inboxes = new ConcurrentHashMap<>();
+
+    @Value("${app.chat.inbox.cache-size:200}")
+    private int capacity;
+
+    @Value("${app.chat.inbox.cache-ttl:PT1M}")
+    private Duration ttl;
+
+    /**
+     * The user's {@code limit} most recent conversations, newest first.
+     */
+    public List<InboxEntry> firstPage(final String userId, final int limit) {
+        long now = System.nanoTime();
+        UserInbox inbox = inboxes.get(userId);
+        if (inbox == null || inbox.isExpired(now, ttl) || !inbox.canServe(limit)) {
+            List<Conversation> loaded = conversationRepository.findInboxAfter(userId, null, null,
+                    Math.max(limit, capacity));
+            inbox = new UserInbox(now, Math.max(limit, capacity), loaded);
+            inboxes.put(userId, inbox);
+        }
+        return inbox.head(limit);
+    }
+
+    /**
+     * Moves the conversation to its position by last message in the cached inbox of each participant.
+     */
+    public void recordActivity(final Conversation conversation) {
+        if (conversation == null || conversation.getParticipantIds() == null) {
+            return;
+        }
+        InboxEntry entry = InboxEntry.of(conversation);
+        for (String participantId : conversation.getParticipantIds()) {
+            UserInbox inbox = inboxes.get(participantId);
+            if (inbox != null) {
+                inbox.put(entry);
+            }
+        }
+    }
+
+    /**
+     * Drops the user's cached order so the next first page is loaded from Mongo.
+     */
+    public void invalidate(final String userId) {
+        inboxes.remove(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.inbox.cache-ttl:PT1M}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        inboxes.values().removeIf(inbox -> inbox.isExpired(now, ttl));
+    }
+
+    /**
+     * A conversation's position in the inbox. The time is kept at the millisecond precision Mongo stores, so an
+     * entry built from a message still in memory equals the one built from the stored conversation.
+     */
+    public record InboxEntry(LocalDateTime lastMessageAt, String conversationId) {
+        public static InboxEntry of(final Conversation conversation) {
+            LocalDateTime lastMessageAt = conversation.getLastMessageAt();
+            return new InboxEntry(lastMessageAt != null ? lastMessageAt.truncatedTo(ChronoUnit.MILLIS) : null,
+                    conversation.getId());
+        }
+
+        /**
+         * Whether the stored conversation is still where this entry places it.
+         */
+        public boolean matches(final Conversation conversation) {
+            return equals(of(conversation));
+        }
+    }
+
+    private static final class UserInbox {
+        private final long loadedAt;
+        private final int capacity;
+        private final NavigableSet<InboxEntry> ordered = new TreeSet<>(NEWEST_FIRST);
+        private final Map<String, InboxEntry> byConversationId = new HashMap<>();
+        // True while every conversation of the user is held, not just the most recent ones.
+        private boolean complete;
+
+        private UserInbox(final long loadedAt, final int capacity, final List<Conversation> conversations) {
+            this.loadedAt = loadedAt;
+            this.capacity = capacity;
+            this.complete = conversations.size() < capacity;
+            for (Conversation conversation : conversations) {
+                InboxEntry entry = InboxEntry.of(conversation);
+                ordered.add(entry);
+                byConversationId.put(entry.conversationId(), entry);
+            }
+        }
+
+        private boolean isExpired(final long now, final Duration ttl) {
+            return now - loadedAt > ttl.toNanos();
+        }
+
+        private synchronized boolean canServe(final int limit) {
+            return complete || ordered.size() >= limit;
+        }
+
+        private synchronized List<InboxEntry> head(final int limit) {
+            List<InboxEntry> entries = new ArrayList<>(Math.min(limit, ordered.size()));
+            for (InboxEntry entry : ordered) {
+                if (entries.size() == limit) {
+                    break;
+                }
+                entries.add(entry);
+            }
+            return entries;
+        }
+
+        private synchronized void put(final InboxEntry entry) {
+            InboxEntry previous = byConversationId.remove(entry.conversationId());
+            if (previous != null) {
+                ordered.remove(previous);
+            }
+            // Past the last held entry of a partial inbox there may be conversations this cache never loaded.
+            if (!complete && !ordered.isEmpty() && NEWEST_FIRST.compare(entry, ordered.last()) > 0) {
+                return;
+            }
+            ordered.add(entry);
+            byConversationId.put(entry.conversationId(), entry);
+            if (ordered.size() > capacity) {
+                byConversationId.remove(ordered.pollLast().conversationId());
+                complete = false;
+            }
+        }
+    }
+}
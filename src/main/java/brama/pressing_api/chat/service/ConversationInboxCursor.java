@@ -0,0 +1,40 @@
+package brama.pressing_api.chat.service;
+
+import brama.pressing_api.chat.domain.Conversation;
+import brama.pressing_api.common.CursorTokens;
+import brama.pressing_api.exception.BusinessException;
+import brama.pressing_api.exception.ErrorCode;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Keyset position in a user's inbox: the (lastMessageAt, id) of the last conversation returned.
+ * Conversations without messages have no {@code lastMessageAt} and come after all the others.
+ */
+public record ConversationInboxCursor(LocalDateTime lastMessageAt, String id) {
+    private static final String NO_MESSAGE = "null";
+
+    public static ConversationInboxCursor of(final Conversation conversation) {
+        return new ConversationInboxCursor(conversation.getLastMessageAt(), conversation.getId());
+    }
+
+    public static ConversationInboxCursor decode(final String token) {
+        String[] parts = CursorTokens.decode(token);
+        if (parts == null) {
+            return null;
+        }
+        if (NO_MESSAGE.equals(parts[0])) {
+            return new ConversationInboxCursor(null, parts[1]);
+        }
+        try {
+            return new ConversationInboxCursor(LocalDateTime.parse(parts[0]), parts[1]);
+        } catch (DateTimeParseException ex) {
+            throw new BusinessException(ErrorCode.INVALID_PAGE_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return CursorTokens.encode(lastMessageAt != null ? lastMessageAt.toString() : NO_MESSAGE, id);
+    }
+}
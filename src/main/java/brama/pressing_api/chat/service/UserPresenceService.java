@@ -1,61 +1,216 @@
 package brama.pressing_api.chat.service;
 
+import brama.pressing_api.chat.cluster.ChatSessionDirectory;
 import brama.pressing_api.chat.domain.UserPresence;
 import brama.pressing_api.chat.repo.UserPresenceRepository;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Tracks who is connected in memory: each user maps to the ids of their open STOMP sessions, so a user stays
+ * online until their last session closes. Connects, disconnects and activity only touch the map and mark the
+ * user dirty; dirty users are written to {@code user_presence} in one bulk upsert every few seconds.
+ * The {@link ChatSessionDirectory} is told when this instance gains its first or loses its last session of a user,
+ * so sessions held by other instances count as well.
+ */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class UserPresenceService {
     private final UserPresenceRepository presenceRepository;
+    private final MongoTemplate mongoTemplate;
+    private final ChatSessionDirectory sessionDirectory;
 
-    public UserPresence markOnline(final String userId) {
-        UserPresence presence = presenceRepository.findByUserId(userId)
-                .orElse(UserPresence.builder().userId(userId).build());
+    private final Map<String, LivePresence> live = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Registers a session; returns the user's presence when this session brought them online across the cluster.
+     */
+    public Optional<UserPresence> markOnline(final String userId, final String sessionId) {
         LocalDateTime now = LocalDateTime.now();
-        presence.setOnline(true);
-        presence.setLastActiveAt(now);
-        presence.setLastSeenAt(now);
-        return presenceRepository.save(presence);
+        boolean[] cameOnline = new boolean[1];
+        LivePresence presence = live.compute(userId, (key, current) -> {
+            LivePresence next = current != null ? current : new LivePresence();
+            cameOnline[0] = next.sessions.isEmpty();
+            next.sessions.add(sessionId);
+            next.lastActiveAt = now;
+            next.lastSeenAt = now;
+            return next;
+        });
+        dirty.add(userId);
+        if (cameOnline[0] && sessionDirectory.register(userId)) {
+            return Optional.of(presence.toDocument(userId));
+        }
+        return Optional.empty();
     }
 
-    public UserPresence markOffline(final String userId) {
-        UserPresence presence = presenceRepository.findByUserId(userId)
-                .orElse(UserPresence.builder().userId(userId).build());
+    /**
+     * Unregisters a session; returns the user's presence when it was their last one on any instance.
+     * Repeated disconnect events for the same session are ignored.
+     */
+    public Optional<UserPresence> markOffline(final String userId, final String sessionId) {
         LocalDateTime now = LocalDateTime.now();
-        presence.setOnline(false);
-        presence.setLastSeenAt(now);
-        return presenceRepository.save(presence);
+        boolean[] wentOffline = new boolean[1];
+        LivePresence presence = live.computeIfPresent(userId, (key, current) -> {
+            wentOffline[0] = current.sessions.remove(sessionId) && current.sessions.isEmpty();
+            current.lastSeenAt = now;
+            return current;
+        });
+        if (presence == null) {
+            return Optional.empty();
+        }
+        dirty.add(userId);
+        if (wentOffline[0] && sessionDirectory.unregister(userId)) {
+            return Optional.of(presence.toDocument(userId));
+        }
+        return Optional.empty();
     }
 
-    public UserPresence touch(final String userId) {
-        UserPresence presence = presenceRepository.findByUserId(userId)
-                .orElse(UserPresence.builder().userId(userId).build());
+    public void touch(final String userId) {
         LocalDateTime now = LocalDateTime.now();
-        presence.setLastActiveAt(now);
-        presence.setLastSeenAt(now);
-        return presenceRepository.save(presence);
+        live.compute(userId, (key, current) -> {
+            LivePresence next = current != null ? current : new LivePresence();
+            next.lastActiveAt = now;
+            next.lastSeenAt = now;
+            return next;
+        });
+        dirty.add(userId);
     }
 
     public boolean isOnline(final String userId) {
-        return presenceRepository.findByUserId(userId)
-                .map(UserPresence::isOnline)
-                .orElse(false);
+        LivePresence presence = live.get(userId);
+        return (presence != null && !presence.sessions.isEmpty()) || sessionDirectory.isOnlineElsewhere(userId);
     }
 
+    /**
+     * Stored presence overlaid with the live state, which is newer than anything not yet flushed.
+     */
     public Map<String, UserPresence> findByUserIds(final Collection<String> userIds) {
         Map<String, UserPresence> presenceMap = new HashMap<>();
         if (userIds == null || userIds.isEmpty()) {
             return presenceMap;
         }
+        Set<String> onlineElsewhere = sessionDirectory.findOnlineElsewhere(userIds);
         presenceRepository.findByUserIdIn(userIds)
-                .forEach(presence -> presenceMap.put(presence.getUserId(), presence));
+                .forEach(presence -> {
+                    presence.setOnline(onlineElsewhere.contains(presence.getUserId()));
+                    presenceMap.put(presence.getUserId(), presence);
+                });
+        for (String userId : userIds) {
+            LivePresence presence = live.get(userId);
+            if (presence != null) {
+                UserPresence current = presence.toDocument(userId);
+                current.setOnline(current.isOnline() || onlineElsewhere.contains(userId));
+                presenceMap.put(userId, current);
+            }
+        }
         return presenceMap;
     }
+
+    /**
+     * Writes the dirty users. {@code online} is the cluster-wide state, so an instance whose last session of a user
+     * closed does not mark them offline while another instance still holds one, and the timestamps only move
+     * forward whichever instance writes last. Users whose write fails are marked dirty again for the next flush.
+     */
+    @Scheduled(fixedDelayString = "${app.chat.presence.flush-interval:PT5S}")
+    public void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        List<String> userIds = new ArrayList<>(dirty);
+        Set<String> onlineElsewhere = sessionDirectory.findOnlineElsewhere(userIds);
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UserPresence.class);
+        List<String> flushed = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            dirty.remove(userId);
+            LivePresence presence = live.get(userId);
+            if (presence == null) {
+                continue;
+            }
+            Update update = new Update()
+                    .set("online", !presence.sessions.isEmpty() || onlineElsewhere.contains(userId))
+                    .max("last_seen_at", presence.lastSeenAt);
+            if (presence.lastActiveAt != null) {
+                update.max("last_active_at", presence.lastActiveAt);
+            }
+            operations.upsert(new Query(Criteria.where("user_id").is(userId)), update);
+            flushed.add(userId);
+        }
+        if (!flushed.isEmpty()) {
+            try {
+                operations.execute();
+            } catch (RuntimeException ex) {
+                dirty.addAll(flushed);
+                throw ex;
+            }
+        }
+        // Offline users are only kept in memory until their final state has been written.
+        for (String userId : userIds) {
+            live.computeIfPresent(userId, (key, presence) ->
+                    presence.sessions.isEmpty() && !dirty.contains(key) ? null : presence);
+        }
+        log.debug("Flushed presence of {} users", flushed.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.cluster.heartbeat-interval:PT10S}")
+    public void heartbeat() {
+        List<String> connected = new ArrayList<>();
+        live.forEach((userId, presence) -> {
+            if (!presence.sessions.isEmpty()) {
+                connected.add(userId);
+            }
+        });
+        sessionDirectory.heartbeat(connected);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        live.forEach((userId, presence) -> {
+            if (!presence.sessions.isEmpty()) {
+                try {
+                    sessionDirectory.unregister(userId);
+                } catch (RuntimeException ex) {
+                    // The claim expires on its own once heartbeats stop.
+                    log.debug("Could not unregister {} from the session directory: {}", userId, ex.getMessage());
+                }
+            }
+        });
+        live.values().forEach(presence -> presence.sessions.clear());
+        dirty.addAll(live.keySet());
+        flush();
+    }
+
+    private static final class LivePresence {
+        private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+        private volatile LocalDateTime lastSeenAt;
+        private volatile LocalDateTime lastActiveAt;
+
+        private UserPresence toDocument(final String userId) {
+            return UserPresence.builder()
+                    .userId(userId)
+                    .online(!sessions.isEmpty())
+                    .lastSeenAt(lastSeenAt)
+                    .lastActiveAt(lastActiveAt)
+                    .build();
+        }
+    }
 }
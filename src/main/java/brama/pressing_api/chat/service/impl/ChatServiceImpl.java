@@ -6,6 +6,7 @@ import brama.pressing_api.chat.domain.ChatMessage;
 import brama.pressing_api.chat.domain.ChatMessageReceipt;
 import brama.pressing_api.chat.domain.ChatMessageStatus;
 import brama.pressing_api.chat.domain.ChatMessageType;
+import brama.pressing_api.chat.domain.ChatReceiptMarker;
 import brama.pressing_api.chat.domain.Conversation;
 import brama.pressing_api.chat.domain.UserPresence;
 import brama.pressing_api.chat.dto.request.CreateConversationRequest;
@@ -17,9 +18,12 @@ import brama.pressing_api.chat.notification.PushNotificationService;
 import brama.pressing_api.chat.repo.ChatMessageRepository;
 import brama.pressing_api.chat.repo.ConversationRepository;
 import brama.pressing_api.chat.service.ChatService;
+import brama.pressing_api.chat.service.ConversationInboxCache;
+import brama.pressing_api.chat.service.ConversationInboxCursor;
 import brama.pressing_api.chat.service.UserPresenceService;
 import brama.pressing_api.chat.websocket.ChatReceiptEvent;
 import brama.pressing_api.chat.websocket.ChatTypingEvent;
+import brama.pressing_api.common.CursorPageResponse;
 import brama.pressing_api.exception.BusinessException;
 import brama.pressing_api.exception.EntityNotFoundException;
 import brama.pressing_api.exception.ErrorCode;
@@ -50,6 +54,7 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ChatServiceImpl implements ChatService {
     private static final int PREVIEW_LIMIT = 120;
+    private static final int MAX_INBOX_PAGE_SIZE = 100;
 
     private final ConversationRepository conversationRepository;
     private final ChatMessageRepository messageRepository;
@@ -57,6 +62,7 @@ public class ChatServiceImpl implements ChatService {
     private final UserPresenceService presenceService;
     private final PushNotificationService pushNotificationService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ConversationInboxCache inboxCache;
 
     @Override
     public ChatConversationResponse createConversation(final CreateConversationRequest request, final String userId) {
@@ -86,27 +92,26 @@ public class ChatServiceImpl implements ChatService {
         conversations.sort(Comparator.comparing(Conversation::getLastMessageAt,
                         Comparator.nullsLast(Comparator.naturalOrder())).reversed());
 
-        Set<String> otherUserIds = conversations.stream()
-                .map(conversation -> getOtherParticipant(conversation, userId))
-                .filter(StringUtils::isNotBlank)
-                .collect(Collectors.toSet());
-
-        Map<String, User> userMap = userRepository.findAllById(otherUserIds)
-                .stream()
-                .collect(Collectors.toMap(User::getId, Function.identity()));
-        Map<String, UserPresence> presenceMap = presenceService.findByUserIds(otherUserIds);
+        return toConversationResponses(conversations, userId);
+    }
 
-        return conversations.stream()
-                .map(conversation -> {
-                    String otherUserId = getOtherParticipant(conversation, userId);
-                    return ChatMapper.toConversationResponse(
-                            conversation,
-                            userMap.get(otherUserId),
-                            presenceMap.get(otherUserId),
-                            userId
-                    );
-                })
-                .collect(Collectors.toList());
+    @Override
+    public CursorPageResponse<ChatConversationResponse> listInbox(final String userId,
+                                                                  final String after,
+                                                                  final int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_INBOX_PAGE_SIZE);
+        ConversationInboxCursor cursor = ConversationInboxCursor.decode(after);
+        List<Conversation> conversations = cursor == null
+                ? firstInboxPage(userId, pageSize + 1)
+                : conversationRepository.findInboxAfter(userId, cursor.lastMessageAt(), cursor.id(), pageSize + 1);
+        boolean hasNext = conversations.size() > pageSize;
+        List<Conversation> page = hasNext ? conversations.subList(0, pageSize) : conversations;
+        return CursorPageResponse.<ChatConversationResponse>builder()
+                .content(toConversationResponses(page, userId))
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? ConversationInboxCursor.of(page.get(page.size() - 1)).encode() : null)
+                .build();
     }
 
     @Override
@@ -155,6 +160,7 @@ public class ChatServiceImpl implements ChatService {
 
         ChatMessage saved = messageRepository.save(message);
         updateConversationForMessage(conversation, saved, recipientId);
+        inboxCache.recordActivity(conversation);
         presenceService.touch(senderId);
 
         ChatMessageResponse response = ChatMapper.toMessageResponse(saved);
@@ -225,62 +231,17 @@ public class ChatServiceImpl implements ChatService {
     @Override
     public void markConversationRead(final String conversationId, final String userId) {
         Conversation conversation = getConversationForUser(conversationId, userId);
-        List<ChatMessage> messages = messageRepository
-                .findByConversationIdAndRecipientId(conversationId, userId);
-
         LocalDateTime now = LocalDateTime.now();
-        List<ChatMessage> updated = new ArrayList<>();
-        for (ChatMessage message : messages) {
-            if (updateReceipt(message, userId, ChatMessageStatus.READ, now)) {
-                updated.add(message);
-            }
-        }
-
-        if (!updated.isEmpty()) {
-            messageRepository.saveAll(updated);
-        }
-
-        resetUnreadCount(conversation, userId);
-
-        String otherUserId = getOtherParticipant(conversation, userId);
-        if (StringUtils.isNotBlank(otherUserId)) {
-            ChatReceiptEvent event = ChatReceiptEvent.builder()
-                    .conversationId(conversationId)
-                    .userId(userId)
-                    .status(ChatMessageStatus.READ)
-                    .timestamp(now)
-                    .build();
-            messagingTemplate.convertAndSendToUser(otherUserId, "/queue/receipts", event);
-        }
+        advanceReceipts(conversation, userId, ChatMessageStatus.READ, now);
+        sendReceipt(conversation, userId, ChatMessageStatus.READ, now);
     }
 
     @Override
     public void markConversationDelivered(final String conversationId, final String userId) {
         Conversation conversation = getConversationForUser(conversationId, userId);
-        List<ChatMessage> messages = messageRepository
-                .findByConversationIdAndRecipientId(conversationId, userId);
-
         LocalDateTime now = LocalDateTime.now();
-        List<ChatMessage> updated = new ArrayList<>();
-        for (ChatMessage message : messages) {
-            if (updateReceipt(message, userId, ChatMessageStatus.DELIVERED, now)) {
-                updated.add(message);
-            }
-        }
-        if (!updated.isEmpty()) {
-            messageRepository.saveAll(updated);
-        }
-
-        String otherUserId = getOtherParticipant(conversation, userId);
-        if (StringUtils.isNotBlank(otherUserId)) {
-            ChatReceiptEvent event = ChatReceiptEvent.builder()
-                    .conversationId(conversationId)
-                    .userId(userId)
-                    .status(ChatMessageStatus.DELIVERED)
-                    .timestamp(now)
-                    .build();
-            messagingTemplate.convertAndSendToUser(otherUserId, "/queue/receipts", event);
-        }
+        advanceReceipts(conversation, userId, ChatMessageStatus.DELIVERED, now);
+        sendReceipt(conversation, userId, ChatMessageStatus.DELIVERED, now);
     }
 
     @Override
@@ -352,7 +313,9 @@ public class ChatServiceImpl implements ChatService {
                 .participantIds(List.of(userId, otherUser.getId()))
                 .unreadCounts(new HashMap<>())
                 .build();
-        return conversationRepository.save(conversation);
+        Conversation saved = conversationRepository.save(conversation);
+        inboxCache.recordActivity(saved);
+        return saved;
     }
 
     private Conversation getConversationForUser(final String conversationId, final String userId) {
@@ -367,79 +330,118 @@ public class ChatServiceImpl implements ChatService {
     private void updateConversationForMessage(final Conversation conversation,
                                               final ChatMessage message,
                                               final String recipientId) {
+        String preview = buildPreview(message);
+        conversationRepository.recordMessage(conversation.getId(), message.getId(), message.getSenderId(), recipientId,
+                preview, message.getCreatedDate());
         conversation.setLastMessageId(message.getId());
         conversation.setLastMessageSenderId(message.getSenderId());
         conversation.setLastMessageAt(message.getCreatedDate());
-        conversation.setLastMessagePreview(buildPreview(message));
-        incrementUnreadCount(conversation, recipientId);
-        conversationRepository.save(conversation);
+        conversation.setLastMessagePreview(preview);
     }
 
     private void updateConversationPreviewIfNeeded(final ChatMessage message) {
-        Conversation conversation = conversationRepository.findById(message.getConversationId())
-                .orElse(null);
-        if (conversation == null) {
+        LocalDateTime updatedAt = Optional.ofNullable(message.getLastModifiedDate()).orElse(message.getCreatedDate());
+        inboxCache.recordActivity(conversationRepository.updateLastMessagePreview(message.getConversationId(),
+                message.getId(), buildPreview(message), updatedAt));
+    }
+
+    /**
+     * Raises the user's receipts on every message received since their marker, up to the conversation's latest
+     * message, with one update, then moves the marker there. Messages before the marker are never scanned again.
+     */
+    private void advanceReceipts(final Conversation conversation,
+                                 final String userId,
+                                 final ChatMessageStatus status,
+                                 final LocalDateTime timestamp) {
+        String latestMessageId = conversation.getLastMessageId();
+        if (latestMessageId == null) {
             return;
         }
-        if (!message.getId().equals(conversation.getLastMessageId())) {
+        ChatReceiptMarker marker = conversation.getReceiptMarkers() != null
+                ? conversation.getReceiptMarkers().get(userId)
+                : null;
+        String markedMessageId = null;
+        if (marker != null) {
+            markedMessageId = status == ChatMessageStatus.READ
+                    ? marker.getLastReadMessageId()
+                    : marker.getLastDeliveredMessageId();
+        }
+        Integer unread = conversation.getUnreadCounts() != null ? conversation.getUnreadCounts().get(userId) : null;
+        boolean unreadCleared = status != ChatMessageStatus.READ || unread == null || unread == 0;
+        if (latestMessageId.equals(markedMessageId) && unreadCleared) {
             return;
         }
-        conversation.setLastMessagePreview(buildPreview(message));
-        conversation.setLastMessageAt(Optional.ofNullable(message.getLastModifiedDate())
-                .orElse(message.getCreatedDate()));
-        conversationRepository.save(conversation);
+        long updated = messageRepository.markReceipts(conversation.getId(), userId, markedMessageId, latestMessageId,
+                status, timestamp);
+        conversationRepository.advanceReceiptMarker(conversation.getId(), userId, status, latestMessageId, updated,
+                timestamp);
     }
 
-    private void incrementUnreadCount(final Conversation conversation, final String userId) {
-        Map<String, Integer> unreadCounts = conversation.getUnreadCounts();
-        if (unreadCounts == null) {
-            unreadCounts = new HashMap<>();
+    private void sendReceipt(final Conversation conversation,
+                             final String userId,
+                             final ChatMessageStatus status,
+                             final LocalDateTime timestamp) {
+        String otherUserId = getOtherParticipant(conversation, userId);
+        if (StringUtils.isBlank(otherUserId)) {
+            return;
         }
-        unreadCounts.put(userId, unreadCounts.getOrDefault(userId, 0) + 1);
-        conversation.setUnreadCounts(unreadCounts);
+        ChatReceiptEvent event = ChatReceiptEvent.builder()
+                .conversationId(conversation.getId())
+                .userId(userId)
+                .status(status)
+                .timestamp(timestamp)
+                .build();
+        messagingTemplate.convertAndSendToUser(otherUserId, "/queue/receipts", event);
     }
 
-    private void resetUnreadCount(final Conversation conversation, final String userId) {
-        Map<String, Integer> unreadCounts = conversation.getUnreadCounts();
-        if (unreadCounts == null) {
-            unreadCounts = new HashMap<>();
+    /**
+     * Loads the conversations on the first inbox page by the ids the inbox cache holds, in the cache's order.
+     * The page, and so its cursor, is made of stored conversations; if one of them no longer sits where the cache
+     * put it (a message handled by another instance), the cache is dropped and the page is read with the same
+     * keyset query as the following ones, so the next page starts exactly after it.
+     */
+    private List<Conversation> firstInboxPage(final String userId, final int limit) {
+        List<ConversationInboxCache.InboxEntry> entries = inboxCache.firstPage(userId, limit);
+        Map<String, Conversation> byId = conversationRepository.findAllById(entries.stream()
+                        .map(ConversationInboxCache.InboxEntry::conversationId)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Conversation::getId, Function.identity()));
+        List<Conversation> page = new ArrayList<>(entries.size());
+        for (ConversationInboxCache.InboxEntry entry : entries) {
+            Conversation conversation = byId.get(entry.conversationId());
+            if (conversation == null || !entry.matches(conversation)) {
+                inboxCache.invalidate(userId);
+                return conversationRepository.findInboxAfter(userId, null, null, limit);
+            }
+            page.add(conversation);
         }
-        unreadCounts.put(userId, 0);
-        conversation.setUnreadCounts(unreadCounts);
-        conversationRepository.save(conversation);
+        return page;
     }
 
-    private boolean updateReceipt(final ChatMessage message,
-                                  final String userId,
-                                  final ChatMessageStatus status,
-                                  final LocalDateTime timestamp) {
-        Map<String, ChatMessageReceipt> receipts = message.getReceipts();
-        if (receipts == null) {
-            receipts = new HashMap<>();
-        }
-        ChatMessageReceipt current = receipts.get(userId);
-        if (!shouldUpdateReceipt(current != null ? current.getStatus() : null, status)) {
-            return false;
-        }
-        receipts.put(userId, ChatMessageReceipt.builder()
-                .status(status)
-                .timestamp(timestamp)
-                .build());
-        message.setReceipts(receipts);
-        return true;
-    }
+    private List<ChatConversationResponse> toConversationResponses(final List<Conversation> conversations,
+                                                                   final String userId) {
+        Set<String> otherUserIds = conversations.stream()
+                .map(conversation -> getOtherParticipant(conversation, userId))
+                .filter(StringUtils::isNotBlank)
+                .collect(Collectors.toSet());
 
-    private boolean shouldUpdateReceipt(final ChatMessageStatus current, final ChatMessageStatus next) {
-        if (current == null) {
-            return true;
-        }
-        if (current == ChatMessageStatus.READ) {
-            return false;
-        }
-        if (current == ChatMessageStatus.DELIVERED && next == ChatMessageStatus.SENT) {
-            return false;
-        }
-        return current != next;
+        Map<String, User> userMap = userRepository.findAllById(otherUserIds)
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<String, UserPresence> presenceMap = presenceService.findByUserIds(otherUserIds);
+
+        return conversations.stream()
+                .map(conversation -> {
+                    String otherUserId = getOtherParticipant(conversation, userId);
+                    return ChatMapper.toConversationResponse(
+                            conversation,
+                            userMap.get(otherUserId),
+                            presenceMap.get(otherUserId),
+                            userId
+                    );
+                })
+                .collect(Collectors.toList());
     }
 
     private void notifyParticipants(final String conversationId,
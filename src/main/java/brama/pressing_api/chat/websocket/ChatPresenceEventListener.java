@@ -5,6 +5,7 @@ import brama.pressing_api.chat.service.UserPresenceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectEvent;
@@ -25,13 +26,9 @@ public class ChatPresenceEventListener {
         if (principal == null || principal.getName() == null) {
             return;
         }
-        UserPresence presence = presenceService.markOnline(principal.getName());
-        messagingTemplate.convertAndSend("/topic/presence", ChatPresenceEvent.builder()
-                .userId(presence.getUserId())
-                .online(true)
-                .lastSeenAt(presence.getLastSeenAt())
-                .lastActiveAt(presence.getLastActiveAt())
-                .build());
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        presenceService.markOnline(principal.getName(), sessionId)
+                .ifPresent(presence -> broadcast(presence, true));
     }
 
     @EventListener
@@ -40,10 +37,15 @@ public class ChatPresenceEventListener {
         if (principal == null || principal.getName() == null) {
             return;
         }
-        UserPresence presence = presenceService.markOffline(principal.getName());
+        presenceService.markOffline(principal.getName(), event.getSessionId())
+                .ifPresent(presence -> broadcast(presence, false));
+    }
+
+    // Only the first session opening and the last one closing change what other users see.
+    private void broadcast(final UserPresence presence, final boolean online) {
         messagingTemplate.convertAndSend("/topic/presence", ChatPresenceEvent.builder()
                 .userId(presence.getUserId())
-                .online(false)
+                .online(online)
                 .lastSeenAt(presence.getLastSeenAt())
                 .lastActiveAt(presence.getLastActiveAt())
                 .build());
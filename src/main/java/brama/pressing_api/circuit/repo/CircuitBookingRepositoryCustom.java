@@ -5,6 +5,15 @@ import brama.pressing_api.circuit.service.CircuitBookingSearchCriteria;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
+import java.util.List;
+
 public interface CircuitBookingRepositoryCustom {
     Page<CircuitBooking> search(CircuitBookingSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Bookings owned by the user, or guest bookings made with the user's email, ordered by selected date
+     * then id, both descending, after the given (selectedDate, id) position, with only the timeline fields populated.
+     */
+    List<CircuitBooking> findOwnedAfter(String userId, String email, LocalDate selectedDate, String id, int limit);
 }
@@ -2,14 +2,17 @@ package brama.pressing_api.circuit.repo;
 
 import brama.pressing_api.circuit.domain.CircuitBooking;
 import brama.pressing_api.circuit.service.CircuitBookingSearchCriteria;
+import brama.pressing_api.utils.EmailKeys;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
@@ -52,4 +55,40 @@ public class CircuitBookingRepositoryImpl implements CircuitBookingRepositoryCus
         List<CircuitBooking> results = mongoTemplate.find(query.with(pageable), CircuitBooking.class);
         return new PageImpl<>(results, pageable, total);
     }
+
+    @Override
+    public List<CircuitBooking> findOwnedAfter(final String userId,
+                                               final String email,
+                                               final LocalDate selectedDate,
+                                               final String id,
+                                               final int limit) {
+        List<Criteria> owners = new ArrayList<>();
+        owners.add(Criteria.where("user_id").is(userId));
+        String emailKey = EmailKeys.of(email);
+        if (emailKey != null) {
+            owners.add(new Criteria().andOperator(
+                    Criteria.where("customer_email_key").is(emailKey),
+                    Criteria.where("user_id").is(null)));
+        }
+        List<Criteria> filters = new ArrayList<>();
+        filters.add(new Criteria().orOperator(owners.toArray(new Criteria[0])));
+        // Bookings without a date sort last in (selected_date desc, _id desc) order.
+        if (id != null && selectedDate != null) {
+            filters.add(new Criteria().orOperator(
+                    Criteria.where("selected_date").lt(selectedDate),
+                    new Criteria().andOperator(
+                            Criteria.where("selected_date").is(selectedDate),
+                            Criteria.where("_id").lt(id)),
+                    Criteria.where("selected_date").is(null)
+            ));
+        } else if (id != null) {
+            filters.add(Criteria.where("selected_date").is(null));
+            filters.add(Criteria.where("_id").lt(id));
+        }
+        Query query = new Query(new Criteria().andOperator(filters.toArray(new Criteria[0])))
+                .with(Sort.by(Sort.Order.desc("selected_date"), Sort.Order.desc("_id")))
+                .limit(limit);
+        query.fields().include("circuit_title", "selected_date", "number_of_passengers", "total_price", "status");
+        return mongoTemplate.find(query, CircuitBooking.class);
+    }
 }
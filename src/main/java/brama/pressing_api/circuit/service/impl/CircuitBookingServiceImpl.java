@@ -15,6 +15,7 @@ import brama.pressing_api.circuit.service.CircuitBookingSearchCriteria;
 import brama.pressing_api.circuit.service.CircuitBookingService;
 import brama.pressing_api.exception.BusinessException;
 import brama.pressing_api.exception.ErrorCode;
+import brama.pressing_api.utils.EmailKeys;
 import brama.pressing_api.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -62,6 +63,7 @@ public class CircuitBookingServiceImpl implements CircuitBookingService {
                 .circuitTitle(circuit.getTitle())
                 .customerName(request.getCustomerName())
                 .customerEmail(request.getCustomerEmail())
+                .customerEmailKey(EmailKeys.of(request.getCustomerEmail()))
                 .customerPhone(request.getCustomerPhone())
                 .selectedDate(request.getSelectedDate())
                 .selectedTime(request.getSelectedTime())
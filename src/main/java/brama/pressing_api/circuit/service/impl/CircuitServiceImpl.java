@@ -10,6 +10,7 @@ import brama.pressing_api.circuit.repo.CircuitBookingRepository;
 import brama.pressing_api.circuit.repo.CircuitRepository;
 import brama.pressing_api.circuit.service.CircuitSearchCriteria;
 import brama.pressing_api.circuit.service.CircuitService;
+import brama.pressing_api.common.Money;
 import brama.pressing_api.exception.BusinessException;
 import brama.pressing_api.exception.EntityNotFoundException;
 import brama.pressing_api.exception.ErrorCode;
@@ -18,8 +19,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
-
 @Service
 @RequiredArgsConstructor
 public class CircuitServiceImpl implements CircuitService {
@@ -85,18 +84,16 @@ public class CircuitServiceImpl implements CircuitService {
                 .build(), Pageable.unpaged()).getTotalElements();
 
         var bookings = bookingRepository.findAll();
-        BigDecimal revenue = BigDecimal.ZERO;
+        long revenue = 0L;
         for (var booking : bookings) {
-            if (booking.getTotalPrice() != null) {
-                revenue = revenue.add(booking.getTotalPrice());
-            }
+            revenue += Money.toMinorUnits(booking.getTotalPrice());
         }
 
         return CircuitAdminStatsResponse.builder()
                 .totalCircuits(totalCircuits)
                 .activeCircuits(activeCircuits)
                 .totalBookings(bookings.size())
-                .revenue(revenue)
+                .revenue(Money.toBigDecimal(revenue))
                 .build();
     }
 }
@@ -0,0 +1,42 @@
+package brama.pressing_api.common;
+
+import brama.pressing_api.exception.BusinessException;
+import brama.pressing_api.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor tokens: URL-safe base64 of {@code <sortKey>,<id>}.
+ */
+public final class CursorTokens {
+    private static final String SEPARATOR = ",";
+
+    private CursorTokens() {
+    }
+
+    public static String encode(final String sortKey, final String id) {
+        String raw = sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Splits a token into its sort key and id, or returns null for a blank token (the first page).
+     */
+    public static String[] decode(final String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessException(ErrorCode.INVALID_PAGE_CURSOR);
+        }
+        int separator = raw.indexOf(SEPARATOR);
+        if (separator <= 0 || separator == raw.length() - 1) {
+            throw new BusinessException(ErrorCode.INVALID_PAGE_CURSOR);
+        }
+        return new String[]{raw.substring(0, separator), raw.substring(separator + 1)};
+    }
+}
@@ -0,0 +1,110 @@
+package brama.pressing_api.common;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * An amount in minor units (cents) of a currency. All arithmetic stays in {@code long};
+ * amounts enter and leave as {@link BigDecimal} rounded HALF_UP to two decimals, which is the scale
+ * every price and payment DTO uses. Operations on two different currencies are rejected.
+ */
+public record Money(long minorUnits, String currency) implements Comparable<Money> {
+    public static final int SCALE = 2;
+    private static final long MINOR_PER_MAJOR = 100L;
+
+    public Money {
+        Objects.requireNonNull(currency, "currency");
+    }
+
+    public static Money zero(final String currency) {
+        return new Money(0L, currency);
+    }
+
+    public static Money of(final BigDecimal amount, final String currency) {
+        return new Money(toMinorUnits(amount), currency);
+    }
+
+    /**
+     * Converts an amount to minor units, HALF_UP; null counts as zero.
+     */
+    public static long toMinorUnits(final BigDecimal amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toBigDecimal(final long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    /**
+     * {@code value * numerator / denominator} rounded HALF_UP (ties away from zero), as BigDecimal does.
+     */
+    public static long multiplyHalfUp(final long value, final long numerator, final long denominator) {
+        long product = Math.multiplyExact(value, numerator);
+        long quotient = product / denominator;
+        long remainder = product % denominator;
+        if (Math.abs(remainder) * 2 >= Math.abs(denominator)) {
+            quotient += (product < 0) == (denominator < 0) ? 1 : -1;
+        }
+        return quotient;
+    }
+
+    public Money plus(final Money other) {
+        return new Money(Math.addExact(minorUnits, checkCurrency(other).minorUnits), currency);
+    }
+
+    public Money minus(final Money other) {
+        return new Money(Math.subtractExact(minorUnits, checkCurrency(other).minorUnits), currency);
+    }
+
+    public Money times(final long factor) {
+        return new Money(Math.multiplyExact(minorUnits, factor), currency);
+    }
+
+    /**
+     * Multiplies by {@code rate}, rounding HALF_UP to minor units.
+     */
+    public Money times(final BigDecimal rate) {
+        BigDecimal normalized = rate.stripTrailingZeros();
+        if (normalized.scale() <= 0) {
+            return times(normalized.longValueExact());
+        }
+        long denominator = BigDecimal.ONE.movePointRight(normalized.scale()).longValueExact();
+        return new Money(multiplyHalfUp(minorUnits, normalized.unscaledValue().longValueExact(), denominator), currency);
+    }
+
+    public Money max(final Money other) {
+        return compareTo(other) >= 0 ? this : other;
+    }
+
+    public Money min(final Money other) {
+        return compareTo(other) <= 0 ? this : other;
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public boolean isGreaterThan(final Money other) {
+        return compareTo(other) > 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return toBigDecimal(minorUnits);
+    }
+
+    @Override
+    public int compareTo(final Money other) {
+        return Long.compare(minorUnits, checkCurrency(other).minorUnits);
+    }
+
+    private Money checkCurrency(final Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " vs " + other.currency);
+        }
+        return other;
+    }
+}
@@ -0,0 +1,29 @@
+package brama.pressing_api.config;
+
+import brama.pressing_api.chat.cluster.ChatClusterRelay;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+
+/**
+ * Subscribes the chat relay to this instance's channel and to the broadcast channel.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.chat.cluster.enabled", havingValue = "true")
+public class ChatClusterConfig {
+    @Bean
+    public RedisMessageListenerContainer chatRelayListenerContainer(final RedisConnectionFactory redisConnectionFactory,
+                                                                    final ChatClusterRelay relay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(relay, List.of(
+                new ChannelTopic(relay.instanceChannel()),
+                new ChannelTopic(ChatClusterRelay.BROADCAST_CHANNEL)));
+        return container;
+    }
+}
@@ -0,0 +1,73 @@
+package brama.pressing_api.config;
+
+import brama.pressing_api.booking.domain.model.Booking;
+import brama.pressing_api.booking.domain.model.VehicleDayClaim;
+import brama.pressing_api.chat.domain.ChatMessage;
+import brama.pressing_api.chat.domain.Conversation;
+import brama.pressing_api.circuit.domain.CircuitBooking;
+import brama.pressing_api.excursionbooking.domain.model.ExcursionBooking;
+import brama.pressing_api.idempotency.domain.model.IdempotencyRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds the indexes the application's queries rely on, picked by name from the entities' index annotations.
+ * Annotated index creation as a whole stays off: older annotations (such as the unique one on
+ * {@code user_presence.user_id}) were never applied and existing data may not satisfy them.
+ * Runs before the web server starts, so the unique day-claim index exists before the first booking.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MongoIndexInitializer implements SmartInitializingSingleton {
+    static final Map<Class<?>, Set<String>> INDEXES = new LinkedHashMap<>();
+
+    static {
+        INDEXES.put(Booking.class, Set.of(
+                "vehicle_status_dates_idx",
+                "created_date_id_idx",
+                "user_start_date_idx",
+                "status_start_date_idx",
+                "status_end_date_idx",
+                "search_tokens"));
+        INDEXES.put(VehicleDayClaim.class, Set.of("vehicle_day_unique_idx", "booking_id"));
+        INDEXES.put(ExcursionBooking.class, Set.of("user_selected_date_idx", "email_key_selected_date_idx"));
+        INDEXES.put(CircuitBooking.class, Set.of("user_selected_date_idx", "email_key_selected_date_idx"));
+        INDEXES.put(IdempotencyRecord.class, Set.of("expires_at"));
+        INDEXES.put(ChatMessage.class, Set.of("recipient_id_idx"));
+        INDEXES.put(Conversation.class, Set.of("participant_last_message_idx"));
+    }
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        IndexResolver resolver = IndexResolver.create(mongoTemplate.getConverter().getMappingContext());
+        INDEXES.forEach((type, names) -> {
+            IndexOperations indexOperations = mongoTemplate.indexOps(type);
+            Set<String> missing = new HashSet<>(names);
+            for (IndexDefinition definition : resolver.resolveIndexFor(type)) {
+                String name = definition.getIndexOptions().getString("name");
+                if (names.contains(name)) {
+                    indexOperations.createIndex(definition);
+                    missing.remove(name);
+                }
+            }
+            if (!missing.isEmpty()) {
+                throw new IllegalStateException("No index annotation named " + missing + " on " + type.getSimpleName());
+            }
+        });
+        log.info("Ensured Mongo indexes on {} collections", INDEXES.size());
+    }
+}
@@ -5,6 +5,10 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Getter
 @Setter
@@ -13,4 +17,29 @@ public class PricingProperties {
     private BigDecimal taxRate = BigDecimal.ZERO;
     private BigDecimal fees = BigDecimal.ZERO;
     private String currency = "USD";
+    /**
+     * Applied to the rental charge of each Saturday and Sunday.
+     */
+    private BigDecimal weekendMultiplier = BigDecimal.ONE;
+    private List<Season> seasons = new ArrayList<>();
+    /**
+     * Flat surcharge per booking keyed by pickup location id.
+     */
+    private Map<String, BigDecimal> locationSurcharges = new HashMap<>();
+    /**
+     * Longest rental, in days between start and end date, that can be booked or quoted.
+     */
+    private int maxRentalDays = 90;
+
+    /**
+     * A yearly recurring date range ({@code MM-dd}, inclusive, may wrap over the new year) with a rate multiplier.
+     */
+    @Getter
+    @Setter
+    public static class Season {
+        private String name;
+        private String from;
+        private String to;
+        private BigDecimal multiplier = BigDecimal.ONE;
+    }
 }
@@ -1,7 +1,9 @@
 package brama.pressing_api.config;
 
+import brama.pressing_api.chat.cluster.ChatClusterRelay;
 import brama.pressing_api.chat.websocket.WebSocketAuthChannelInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
@@ -14,12 +16,15 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final WebSocketAuthChannelInterceptor authChannelInterceptor;
+    private final ObjectProvider<ChatClusterRelay> clusterRelay;
 
     @Override
     public void configureMessageBroker(final MessageBrokerRegistry registry) {
         registry.enableSimpleBroker("/topic", "/queue");
         registry.setApplicationDestinationPrefixes("/app");
         registry.setUserDestinationPrefix("/user");
+        // With app.chat.cluster.enabled, outgoing messages are also relayed to the other instances through Redis.
+        clusterRelay.ifAvailable(relay -> registry.configureBrokerChannel().interceptors(relay));
     }
 
     @Override
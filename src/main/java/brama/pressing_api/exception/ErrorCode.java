@@ -36,11 +36,14 @@ public enum ErrorCode {
 
     INVALID_DATE_RANGE("INVALID_DATE_RANGE", "Start date must be before end date", BAD_REQUEST),
     VEHICLE_NOT_AVAILABLE("VEHICLE_NOT_AVAILABLE", "Vehicle is not available for the selected dates", CONFLICT),
+    VEHICLE_NOT_PRICED("VEHICLE_NOT_PRICED", "Vehicle has no daily rate and cannot be booked", CONFLICT),
+    RENTAL_PERIOD_TOO_LONG("RENTAL_PERIOD_TOO_LONG", "Rental period exceeds the maximum allowed length", BAD_REQUEST),
     LOCATION_CODE_EXISTS("LOCATION_CODE_EXISTS", "Location code already exists", CONFLICT),
     PROMO_CODE_EXISTS("PROMO_CODE_EXISTS", "Promo code already exists", CONFLICT),
     PROMO_CODE_INVALID("PROMO_CODE_INVALID", "Promo code is invalid or expired", BAD_REQUEST),
     BOOKING_STATUS_NOT_ALLOWED("BOOKING_STATUS_NOT_ALLOWED", "Booking status change is not allowed", BAD_REQUEST),
     BOOKING_NOT_FOUND("BOOKING_NOT_FOUND", "Booking not found", NOT_FOUND),
+    BOOKING_STATUS_CHANGED("BOOKING_STATUS_CHANGED", "Booking status was changed by another request", CONFLICT),
     PAYMENT_ALREADY_PROCESSED("PAYMENT_ALREADY_PROCESSED", "Payment already processed", CONFLICT),
     EXCURSION_DISABLED("EXCURSION_DISABLED", "Excursion is disabled", CONFLICT),
     EXCURSION_DATE_NOT_AVAILABLE("EXCURSION_DATE_NOT_AVAILABLE", "Selected date is not available", CONFLICT),
@@ -66,8 +69,10 @@ public enum ErrorCode {
     CIRCUIT_PASSENGERS_LIMIT("CIRCUIT_PASSENGERS_LIMIT", "Requested passengers exceed the allowed limit", BAD_REQUEST),
     CIRCUIT_BOOKING_STATUS_NOT_ALLOWED("CIRCUIT_BOOKING_STATUS_NOT_ALLOWED", "Circuit booking status change not allowed", BAD_REQUEST),
     CIRCUIT_DATE_INVALID("CIRCUIT_DATE_INVALID", "Selected date must be today or later", BAD_REQUEST),
-    CIRCUIT_ACCESS_DENIED("CIRCUIT_ACCESS_DENIED", "You do not have access to this circuit booking", FORBIDDEN);
-    ;
+    CIRCUIT_ACCESS_DENIED("CIRCUIT_ACCESS_DENIED", "You do not have access to this circuit booking", FORBIDDEN),
+    INVALID_PAGE_CURSOR("INVALID_PAGE_CURSOR", "Pagination cursor is invalid", BAD_REQUEST),
+    IDEMPOTENCY_KEY_REUSED("IDEMPOTENCY_KEY_REUSED", "Idempotency key was already used with a different request", UNPROCESSABLE_ENTITY),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS("IDEMPOTENCY_REQUEST_IN_PROGRESS", "A request with this idempotency key is still being processed", CONFLICT);
 
     private final String code;
     private final String defaultMessage;
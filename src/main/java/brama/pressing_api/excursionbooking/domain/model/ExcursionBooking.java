@@ -6,6 +6,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
@@ -20,6 +22,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @SuperBuilder
+@CompoundIndexes({
+        @CompoundIndex(name = "user_selected_date_idx", def = "{'user_id': 1, 'selected_date': -1, '_id': -1}"),
+        @CompoundIndex(name = "email_key_selected_date_idx",
+                def = "{'customer_email_key': 1, 'selected_date': -1, '_id': -1}")
+})
 public class ExcursionBooking extends BaseDocument {
     @Field("excursion_id")
     @Indexed
@@ -39,6 +46,12 @@ public class ExcursionBooking extends BaseDocument {
     @Indexed
     private String customerEmail;
 
+    /**
+     * {@code customer_email} trimmed and lowercased, so guest bookings are found by an exact indexed match.
+     */
+    @Field("customer_email_key")
+    private String customerEmailKey;
+
     @Field("customer_phone")
     private String customerPhone;
 
@@ -15,6 +15,7 @@ import brama.pressing_api.excursionbooking.service.ExcursionBookingService;
 import brama.pressing_api.exception.BusinessException;
 import brama.pressing_api.exception.EntityNotFoundException;
 import brama.pressing_api.exception.ErrorCode;
+import brama.pressing_api.utils.EmailKeys;
 import brama.pressing_api.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -71,6 +72,7 @@ public class ExcursionBookingServiceImpl implements ExcursionBookingService {
                 .userId(SecurityUtils.getCurrentUserId().orElse(null))
                 .customerName(request.getCustomerName())
                 .customerEmail(request.getCustomerEmail())
+                .customerEmailKey(EmailKeys.of(request.getCustomerEmail()))
                 .customerPhone(request.getCustomerPhone())
                 .selectedDate(request.getSelectedDate())
                 .numberOfSeats(seats)
@@ -0,0 +1,47 @@
+package brama.pressing_api.idempotency.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.Instant;
+
+/**
+ * The outcome of one request sent with an {@code Idempotency-Key}. The id combines the operation, the caller
+ * and the key; the document is removed by Mongo's TTL monitor once {@code expires_at} has passed.
+ */
+@Document(collection = "idempotency_keys")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class IdempotencyRecord {
+    @Id
+    private String id;
+
+    @Field("fingerprint")
+    private String fingerprint;
+
+    @Field("status")
+    private IdempotencyStatus status;
+
+    @Field("response_body")
+    private String responseBody;
+
+    /**
+     * While IN_PROGRESS, the end of the claimant's lease; a retry may take the key over once it has passed.
+     */
+    @Field("locked_until")
+    private Instant lockedUntil;
+
+    @Field("expires_at")
+    @Indexed(expireAfter = "0s")
+    private Instant expiresAt;
+}
@@ -0,0 +1,6 @@
+package brama.pressing_api.idempotency.domain.model;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
@@ -0,0 +1,8 @@
+package brama.pressing_api.idempotency.repo;
+
+import brama.pressing_api.idempotency.domain.model.IdempotencyRecord;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface IdempotencyRecordRepository extends MongoRepository<IdempotencyRecord, String>,
+        IdempotencyRecordRepositoryCustom {
+}
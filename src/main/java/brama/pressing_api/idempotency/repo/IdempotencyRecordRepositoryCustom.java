@@ -0,0 +1,16 @@
+package brama.pressing_api.idempotency.repo;
+
+import java.time.Instant;
+
+public interface IdempotencyRecordRepositoryCustom {
+    /**
+     * Takes over an IN_PROGRESS record with the same fingerprint whose lease ran out before {@code now},
+     * extending it to {@code lockedUntil}. Returns false if the record completed or is still leased.
+     */
+    boolean takeOver(String id, String fingerprint, Instant now, Instant lockedUntil);
+
+    /**
+     * Deletes the record only while it is still IN_PROGRESS under the lease ending at {@code lockedUntil}.
+     */
+    void releaseLease(String id, Instant lockedUntil);
+}
@@ -0,0 +1,38 @@
+package brama.pressing_api.idempotency.repo;
+
+import brama.pressing_api.idempotency.domain.model.IdempotencyRecord;
+import brama.pressing_api.idempotency.domain.model.IdempotencyStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+
+@RequiredArgsConstructor
+public class IdempotencyRecordRepositoryImpl implements IdempotencyRecordRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean takeOver(final String id, final String fingerprint, final Instant now, final Instant lockedUntil) {
+        // Records written before leases existed have no locked_until and count as expired.
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where("_id").is(id),
+                Criteria.where("status").is(IdempotencyStatus.IN_PROGRESS),
+                Criteria.where("fingerprint").is(fingerprint),
+                new Criteria().orOperator(
+                        Criteria.where("locked_until").is(null),
+                        Criteria.where("locked_until").lt(now))
+        ));
+        return mongoTemplate.updateFirst(query, new Update().set("locked_until", lockedUntil), IdempotencyRecord.class)
+                .getModifiedCount() == 1;
+    }
+
+    @Override
+    public void releaseLease(final String id, final Instant lockedUntil) {
+        mongoTemplate.remove(new Query(Criteria.where("_id").is(id)
+                .and("status").is(IdempotencyStatus.IN_PROGRESS)
+                .and("locked_until").is(lockedUntil)), IdempotencyRecord.class);
+    }
+}
@@ -0,0 +1,190 @@
+package brama.pressing_api.idempotency.service;
+
+import brama.pressing_api.exception.BusinessException;
+import brama.pressing_api.exception.ErrorCode;
+import brama.pressing_api.idempotency.domain.model.IdempotencyRecord;
+import brama.pressing_api.idempotency.domain.model.IdempotencyStatus;
+import brama.pressing_api.idempotency.repo.IdempotencyRecordRepository;
+import brama.pressing_api.utils.SecurityUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs a create operation at most once per {@code Idempotency-Key}, caller and operation.
+ * <p>
+ * The first request claims the key with an IN_PROGRESS record and stores the JSON response when done;
+ * retries with the same body get that stored response back, and a different body under the same key is rejected.
+ * Duplicates arriving on the same instance while the first request runs wait for it through an in-flight future;
+ * on other instances they are answered with IDEMPOTENCY_REQUEST_IN_PROGRESS at once rather than holding a request
+ * thread. The claim is a lease ({@code app.idempotency.lock-lease}): if the claimant dies, a retry after the lease
+ * runs out takes the key over. A failed request releases the key.
+ */
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+    public static final String HEADER = "Idempotency-Key";
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final ObjectMapper objectMapper;
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${app.idempotency.ttl:PT24H}")
+    private Duration ttl;
+
+    @Value("${app.idempotency.wait-timeout:PT2S}")
+    private Duration waitTimeout;
+
+    @Value("${app.idempotency.lock-lease:PT30S}")
+    private Duration lockLease;
+
+    public <T> T execute(final String operation,
+                         final String key,
+                         final Object request,
+                         final Class<T> responseType,
+                         final Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        String id = operation + ":" + SecurityUtils.getCurrentUserId().orElse("anonymous") + ":" + key.trim();
+        String fingerprint = fingerprint(operation, request);
+
+        InFlight mine = new InFlight(fingerprint, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(id, mine);
+        if (running != null) {
+            checkFingerprint(running.fingerprint(), fingerprint);
+            return read(await(running.responseBody()), responseType);
+        }
+
+        try {
+            // Millisecond precision, as stored, so the lease can be matched again on release.
+            Instant lockedUntil = Instant.now().plus(lockLease).truncatedTo(ChronoUnit.MILLIS);
+            if (!claim(id, fingerprint, lockedUntil)) {
+                String stored = storedResponse(id, fingerprint);
+                mine.responseBody().complete(stored);
+                return read(stored, responseType);
+            }
+            T response;
+            try {
+                response = action.get();
+            } catch (RuntimeException ex) {
+                recordRepository.releaseLease(id, lockedUntil);
+                throw ex;
+            }
+            String body = write(response);
+            recordRepository.save(IdempotencyRecord.builder()
+                    .id(id)
+                    .fingerprint(fingerprint)
+                    .status(IdempotencyStatus.COMPLETED)
+                    .responseBody(body)
+                    .expiresAt(Instant.now().plus(ttl))
+                    .build());
+            mine.responseBody().complete(body);
+            return response;
+        } catch (RuntimeException ex) {
+            mine.responseBody().completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(id, mine);
+        }
+    }
+
+    /**
+     * Inserts an IN_PROGRESS record leased until {@code lockedUntil}, or takes over one whose claimant let its
+     * lease run out. Returns false when another request holds or completed the key.
+     */
+    private boolean claim(final String id, final String fingerprint, final Instant lockedUntil) {
+        try {
+            recordRepository.insert(IdempotencyRecord.builder()
+                    .id(id)
+                    .fingerprint(fingerprint)
+                    .status(IdempotencyStatus.IN_PROGRESS)
+                    .lockedUntil(lockedUntil)
+                    .expiresAt(Instant.now().plus(ttl))
+                    .build());
+            return true;
+        } catch (DuplicateKeyException ex) {
+            return recordRepository.takeOver(id, fingerprint, Instant.now(), lockedUntil);
+        }
+    }
+
+    private String storedResponse(final String id, final String fingerprint) {
+        IdempotencyRecord record = recordRepository.findById(id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS));
+        checkFingerprint(record.getFingerprint(), fingerprint);
+        if (record.getStatus() != IdempotencyStatus.COMPLETED) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+        return record.getResponseBody();
+    }
+
+    private String await(final CompletableFuture<String> responseBody) {
+        try {
+            return responseBody.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private void checkFingerprint(final String stored, final String fingerprint) {
+        if (!fingerprint.equals(stored)) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+    }
+
+    private String fingerprint(final String operation, final Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to fingerprint request", ex);
+        }
+    }
+
+    private String write(final Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to store idempotent response", ex);
+        }
+    }
+
+    private <T> T read(final String body, final Class<T> responseType) {
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to read stored idempotent response", ex);
+        }
+    }
+
+    private record InFlight(String fingerprint, CompletableFuture<String> responseBody) {
+    }
+}
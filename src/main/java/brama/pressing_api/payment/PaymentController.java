@@ -1,5 +1,6 @@
 package brama.pressing_api.payment;
 
+import brama.pressing_api.idempotency.service.IdempotencyService;
 import brama.pressing_api.payment.dto.request.CreatePaymentRequest;
 import brama.pressing_api.payment.dto.response.PaymentResponse;
 import brama.pressing_api.payment.service.PaymentService;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -26,13 +28,18 @@ import java.util.List;
 @Tag(name = "Payments", description = "Customer payments")
 public class PaymentController {
     private final PaymentService paymentService;
+    private final IdempotencyService idempotencyService;
 
     /**
-     * Creates a payment for a booking.
+     * Creates a payment for a booking. Retries sent with the same Idempotency-Key get the first result.
      */
     @PostMapping
-    public ResponseEntity<PaymentResponse> createPayment(@Valid @RequestBody CreatePaymentRequest request) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(paymentService.create(request));
+    public ResponseEntity<PaymentResponse> createPayment(@Valid @RequestBody CreatePaymentRequest request,
+                                                         @RequestHeader(value = IdempotencyService.HEADER, required = false)
+                                                         String idempotencyKey) {
+        PaymentResponse response = idempotencyService.execute("payment.create", idempotencyKey, request,
+                PaymentResponse.class, () -> paymentService.create(request));
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     /**
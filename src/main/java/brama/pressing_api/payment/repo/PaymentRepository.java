@@ -3,7 +3,9 @@ package brama.pressing_api.payment.repo;
 import brama.pressing_api.payment.domain.model.Payment;
 import brama.pressing_api.payment.domain.model.PaymentStatus;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +17,7 @@ public interface PaymentRepository extends MongoRepository<Payment, String> {
     List<Payment> findByStatus(PaymentStatus status);
 
     Optional<Payment> findByTransactionId(String transactionId);
+
+    @Query(value = "{ 'status': ?0, 'created_date': { $gt: ?1 } }", fields = "{ 'booking_id': 1 }")
+    List<Payment> findBookingIdsByStatusCreatedAfter(PaymentStatus status, LocalDateTime createdAfter);
 }
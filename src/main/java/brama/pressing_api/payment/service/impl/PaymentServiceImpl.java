@@ -5,6 +5,8 @@ import brama.pressing_api.booking.domain.model.BookingPaymentEntry;
 import brama.pressing_api.booking.domain.model.BookingPaymentStatus;
 import brama.pressing_api.booking.domain.model.BookingStatus;
 import brama.pressing_api.booking.repo.BookingRepository;
+import brama.pressing_api.booking.service.BookingAvailabilityIndex;
+import brama.pressing_api.booking.service.BookingStatsService;
 import brama.pressing_api.exception.BusinessException;
 import brama.pressing_api.exception.EntityNotFoundException;
 import brama.pressing_api.exception.ErrorCode;
@@ -19,18 +21,24 @@ import brama.pressing_api.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PaymentServiceImpl implements PaymentService {
+    private static final int MAX_BOOKING_UPDATE_ATTEMPTS = 3;
+
     private final PaymentRepository paymentRepository;
     private final BookingRepository bookingRepository;
+    private final BookingAvailabilityIndex availabilityIndex;
+    private final BookingStatsService statsService;
 
     @Override
     public PaymentResponse create(final CreatePaymentRequest request) {
@@ -95,21 +103,49 @@ public class PaymentServiceImpl implements PaymentService {
         }
         Payment saved = paymentRepository.save(payment);
 
-        Booking booking = bookingRepository.findById(saved.getBookingId())
-                .orElseThrow(() -> new EntityNotFoundException("Booking not found"));
-        if (status == PaymentStatus.PAID) {
-            updateBookingPayment(booking, saved);
-            if (booking.getStatus() == null || booking.getStatus() == BookingStatus.PENDING) {
-                booking.setStatus(BookingStatus.CONFIRMED);
-            }
-        } else if (status == PaymentStatus.REFUNDED) {
-            booking.setPaymentStatus(BookingPaymentStatus.REFUNDED);
-        }
-        bookingRepository.save(booking);
+        applyToBooking(saved, status);
 
         return PaymentMapper.toResponse(saved);
     }
 
+    /**
+     * Records a paid or refunded payment on its booking with an update guarded on the booking status that was
+     * read, so it never overwrites a status the lifecycle job or a cancel wrote in between; on such a change the
+     * booking is read again and the payment re-applied.
+     */
+    private void applyToBooking(final Payment payment, final PaymentStatus status) {
+        if (status != PaymentStatus.PAID && status != PaymentStatus.REFUNDED) {
+            return;
+        }
+        for (int attempt = 1; ; attempt++) {
+            Booking booking = bookingRepository.findById(payment.getBookingId())
+                    .orElseThrow(() -> new EntityNotFoundException("Booking not found"));
+            BookingStatsService.Snapshot previous = BookingStatsService.Snapshot.of(booking);
+            BookingStatus readStatus = booking.getStatus();
+            Update update = new Update();
+            if (status == PaymentStatus.PAID) {
+                updateBookingPayment(booking, payment);
+                update.set("payment_history", booking.getPaymentHistory())
+                        .set("paid_amount", booking.getPaidAmount());
+                if (readStatus == null || readStatus == BookingStatus.PENDING) {
+                    update.set("status", BookingStatus.CONFIRMED);
+                }
+            } else {
+                booking.setPaymentStatus(BookingPaymentStatus.REFUNDED);
+            }
+            update.set("payment_status", booking.getPaymentStatus());
+            Optional<Booking> savedBooking = bookingRepository.updateIfStatus(booking.getId(), readStatus, update);
+            if (savedBooking.isPresent()) {
+                availabilityIndex.apply(savedBooking.get());
+                statsService.record(previous, savedBooking.get());
+                return;
+            }
+            if (attempt == MAX_BOOKING_UPDATE_ATTEMPTS) {
+                throw new BusinessException(ErrorCode.BOOKING_STATUS_CHANGED);
+            }
+        }
+    }
+
     private void updateBookingPayment(final Booking booking, final Payment payment) {
         if (booking == null || payment == null) {
             return;
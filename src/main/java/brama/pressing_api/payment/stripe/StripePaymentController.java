@@ -2,6 +2,7 @@ package brama.pressing_api.payment.stripe;
 
 import brama.pressing_api.exception.BusinessException;
 import brama.pressing_api.exception.ErrorCode;
+import brama.pressing_api.idempotency.service.IdempotencyService;
 import brama.pressing_api.payment.dto.request.ConfirmStripePaymentRequest;
 import brama.pressing_api.payment.dto.request.CreateStripePaymentIntentRequest;
 import brama.pressing_api.payment.dto.response.StripePaymentIntentResponse;
@@ -30,14 +31,17 @@ import org.springframework.web.bind.annotation.RestController;
 public class StripePaymentController {
     private final StripePaymentService stripePaymentService;
     private final StripeProperties stripeProperties;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping("/intent")
     public ResponseEntity<StripePaymentIntentResponse> createIntent(
-            @Valid @RequestBody CreateStripePaymentIntentRequest request) {
+            @Valid @RequestBody CreateStripePaymentIntentRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
         String userId = SecurityUtils.getCurrentUserId()
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(stripePaymentService.createPaymentIntent(request, userId));
+        StripePaymentIntentResponse response = idempotencyService.execute("stripe.intent.create", idempotencyKey,
+                request, StripePaymentIntentResponse.class, () -> stripePaymentService.createPaymentIntent(request, userId));
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @PostMapping("/confirm")
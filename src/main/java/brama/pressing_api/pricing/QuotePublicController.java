@@ -0,0 +1,33 @@
+package brama.pressing_api.pricing;
+
+import brama.pressing_api.pricing.dto.request.QuoteRequest;
+import brama.pressing_api.pricing.dto.response.VehicleQuoteResponse;
+import brama.pressing_api.pricing.service.QuoteService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Public batch price quotes for search result pages.
+ */
+@RestController
+@RequestMapping("/api/v1/public/quotes")
+@RequiredArgsConstructor
+@Tag(name = "Quotes - Public", description = "Batch price quotes")
+public class QuotePublicController {
+    private final QuoteService quoteService;
+
+    /**
+     * Prices up to 100 vehicles for one date range, set of extras and promo code.
+     */
+    @PostMapping
+    public List<VehicleQuoteResponse> quote(@Valid @RequestBody QuoteRequest request) {
+        return quoteService.quote(request);
+    }
+}
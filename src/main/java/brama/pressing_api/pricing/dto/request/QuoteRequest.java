@@ -0,0 +1,40 @@
+package brama.pressing_api.pricing.dto.request;
+
+import brama.pressing_api.booking.dto.request.BookingExtraRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteRequest {
+    @NotEmpty
+    @Size(max = 100)
+    private List<@NotBlank String> vehicleIds;
+
+    @NotNull
+    private LocalDate startDate;
+
+    @NotNull
+    private LocalDate endDate;
+
+    private String pickupLocationId;
+
+    @Valid
+    private List<BookingExtraRequest> extras;
+
+    private String promoCode;
+}
@@ -0,0 +1,18 @@
+package brama.pressing_api.pricing.dto.response;
+
+import brama.pressing_api.booking.dto.response.BookingPricingResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehicleQuoteResponse {
+    private String vehicleId;
+    private BookingPricingResponse pricing;
+}
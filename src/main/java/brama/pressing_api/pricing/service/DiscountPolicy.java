@@ -0,0 +1,13 @@
+package brama.pressing_api.pricing.service;
+
+import java.math.BigDecimal;
+
+/**
+ * Discount granted on a quote's subtotal, e.g. a resolved promotion.
+ */
+@FunctionalInterface
+public interface DiscountPolicy {
+    DiscountPolicy NONE = subtotal -> BigDecimal.ZERO;
+
+    BigDecimal discountFor(BigDecimal subtotal);
+}
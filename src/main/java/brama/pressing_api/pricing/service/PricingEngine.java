@@ -0,0 +1,35 @@
+package brama.pressing_api.pricing.service;
+
+import brama.pressing_api.booking.domain.model.BookingPricing;
+import brama.pressing_api.config.PricingProperties;
+import brama.pressing_api.exception.BusinessException;
+import brama.pressing_api.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Entry point for price quotes. The {@code app.pricing} rules are compiled once into a
+ * {@link PricingPipeline}, which every quote then evaluates without touching the configuration.
+ */
+@Service
+@Slf4j
+public class PricingEngine {
+    private final PricingPipeline pipeline;
+
+    public PricingEngine(final PricingProperties properties) {
+        this.pipeline = PricingPipeline.compile(properties);
+        log.info("Pricing pipeline compiled: {} seasons, {} location surcharges",
+                properties.getSeasons() != null ? properties.getSeasons().size() : 0,
+                properties.getLocationSurcharges() != null ? properties.getLocationSurcharges().size() : 0);
+    }
+
+    /**
+     * Prices a rental; a vehicle without a daily rate is rejected rather than priced at zero.
+     */
+    public BookingPricing quote(final PricingInput input, final DiscountPolicy discountPolicy) {
+        if (input.vehicle().getDailyRate() == null) {
+            throw new BusinessException(ErrorCode.VEHICLE_NOT_PRICED);
+        }
+        return pipeline.quote(input, discountPolicy != null ? discountPolicy : DiscountPolicy.NONE);
+    }
+}
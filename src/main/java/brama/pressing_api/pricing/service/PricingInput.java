@@ -0,0 +1,18 @@
+package brama.pressing_api.pricing.service;
+
+import brama.pressing_api.booking.domain.model.BookingExtra;
+import brama.pressing_api.vehicle.domain.model.Vehicle;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * What a quote depends on: the vehicle's rates, the rental dates (end exclusive, as in bookings),
+ * the chosen extras and the pickup location.
+ */
+public record PricingInput(Vehicle vehicle,
+                           LocalDate startDate,
+                           LocalDate endDate,
+                           List<BookingExtra> extras,
+                           String pickupLocationId) {
+}
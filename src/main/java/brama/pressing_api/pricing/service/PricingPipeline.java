@@ -0,0 +1,223 @@
+package brama.pressing_api.pricing.service;
+
+import brama.pressing_api.booking.domain.model.BookingExtra;
+import brama.pressing_api.booking.domain.model.BookingPricing;
+import brama.pressing_api.common.Money;
+import brama.pressing_api.config.PricingProperties;
+import brama.pressing_api.vehicle.domain.model.Vehicle;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pricing rules compiled into lookup tables. Immutable and safe to share between threads.
+ * <p>
+ * Stages, in order: length-of-rental tiers (monthly, weekly, daily rates), per-day weekend and season
+ * multipliers, extras, discount, taxes, then fees plus the pickup location surcharge.
+ * Amounts are evaluated as long minor units ({@link Money}) and multipliers as basis points, so a quote
+ * does long arithmetic only and rounds HALF_UP to cents at each stage.
+ */
+public final class PricingPipeline {
+    private static final long BASIS_POINTS = 10_000L;
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int DAYS_PER_MONTH = 30;
+    // Day-of-year slots in leap-year layout; slot 59 is February 29.
+    private static final int YEAR_SLOTS = 366;
+    private static final int FEB_29_SLOT = 59;
+    private static final DateTimeFormatter MONTH_DAY = DateTimeFormatter.ofPattern("MM-dd");
+
+    private final long weekendBasisPoints;
+    private final long[] seasonBasisPoints;
+    private final Map<String, Long> locationSurcharges;
+    private final long taxRateNumerator;
+    private final long taxRateDenominator;
+    private final long fees;
+    private final String currency;
+
+    private PricingPipeline(final long weekendBasisPoints,
+                            final long[] seasonBasisPoints,
+                            final Map<String, Long> locationSurcharges,
+                            final BigDecimal taxRate,
+                            final long fees,
+                            final String currency) {
+        this.weekendBasisPoints = weekendBasisPoints;
+        this.seasonBasisPoints = seasonBasisPoints;
+        this.locationSurcharges = locationSurcharges;
+        BigDecimal normalizedTaxRate = taxRate.stripTrailingZeros();
+        int taxScale = Math.max(normalizedTaxRate.scale(), 0);
+        this.taxRateNumerator = normalizedTaxRate.movePointRight(taxScale).longValueExact();
+        this.taxRateDenominator = BigDecimal.ONE.movePointRight(taxScale).longValueExact();
+        this.fees = fees;
+        this.currency = currency;
+    }
+
+    public static PricingPipeline compile(final PricingProperties properties) {
+        long[] seasons = new long[YEAR_SLOTS];
+        Arrays.fill(seasons, BASIS_POINTS);
+        if (properties.getSeasons() != null) {
+            for (PricingProperties.Season season : properties.getSeasons()) {
+                int from = slot(parseMonthDay(season.getFrom(), season.getName()));
+                int to = slot(parseMonthDay(season.getTo(), season.getName()));
+                long multiplier = toBasisPoints(season.getMultiplier());
+                for (int slot = from; ; slot = (slot + 1) % YEAR_SLOTS) {
+                    // Overlapping seasons compound.
+                    seasons[slot] = seasons[slot] * multiplier / BASIS_POINTS;
+                    if (slot == to) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        Map<String, Long> surcharges = new HashMap<>();
+        if (properties.getLocationSurcharges() != null) {
+            properties.getLocationSurcharges().forEach((locationId, amount) -> {
+                long minorUnits = Money.toMinorUnits(amount);
+                if (minorUnits != 0) {
+                    surcharges.put(locationId, minorUnits);
+                }
+            });
+        }
+
+        return new PricingPipeline(
+                toBasisPoints(properties.getWeekendMultiplier()),
+                seasons,
+                Map.copyOf(surcharges),
+                properties.getTaxRate() != null ? properties.getTaxRate() : BigDecimal.ZERO,
+                Money.toMinorUnits(properties.getFees()),
+                properties.getCurrency());
+    }
+
+    /**
+     * Evaluates a quote in minor units; amounts are converted to BigDecimal only for the returned pricing
+     * and for the discount policy, which works on the promotion's BigDecimal amounts.
+     */
+    public BookingPricing quote(final PricingInput input, final DiscountPolicy discountPolicy) {
+        Vehicle vehicle = input.vehicle();
+        int days = Math.toIntExact(ChronoUnit.DAYS.between(input.startDate(), input.endDate()));
+
+        long base = applyCalendar(tieredBase(vehicle, days), input.startDate(), days);
+        long extrasTotal = extrasTotal(input, days);
+        long subtotal = Math.addExact(base, extrasTotal);
+        long discount = Money.toMinorUnits(discountPolicy.discountFor(Money.toBigDecimal(subtotal)));
+        long taxable = Math.max(subtotal - discount, 0L);
+        long taxes = Money.multiplyHalfUp(taxable, taxRateNumerator, taxRateDenominator);
+        Long surcharge = input.pickupLocationId() != null ? locationSurcharges.get(input.pickupLocationId()) : null;
+        long totalFees = surcharge != null ? fees + surcharge : fees;
+        long total = Math.addExact(Math.addExact(taxable, taxes), totalFees);
+
+        return BookingPricing.builder()
+                .dailyRate(vehicle.getDailyRate())
+                .days(days)
+                .extrasTotal(Money.toBigDecimal(extrasTotal))
+                .subtotal(Money.toBigDecimal(subtotal))
+                .discount(Money.toBigDecimal(discount))
+                .taxes(Money.toBigDecimal(taxes))
+                .fees(Money.toBigDecimal(totalFees))
+                .total(Money.toBigDecimal(total))
+                .deposit(vehicle.getDeposit() != null ? Money.toBigDecimal(Money.toMinorUnits(vehicle.getDeposit())) : BigDecimal.ZERO)
+                .currency(currency)
+                .build();
+    }
+
+    /**
+     * Whole months at the monthly rate and whole weeks at the weekly rate when the vehicle has them,
+     * the remainder at the daily rate; a remainder never costs more than the next tier up.
+     */
+    private long tieredBase(final Vehicle vehicle, final int days) {
+        if (vehicle.getMonthlyRate() == null) {
+            return weeklyBase(vehicle, days);
+        }
+        long monthlyRate = Money.toMinorUnits(vehicle.getMonthlyRate());
+        long months = Math.multiplyExact(monthlyRate, (long) (days / DAYS_PER_MONTH));
+        return Math.addExact(months, Math.min(weeklyBase(vehicle, days % DAYS_PER_MONTH), monthlyRate));
+    }
+
+    private long weeklyBase(final Vehicle vehicle, final int days) {
+        long dailyRate = Money.toMinorUnits(vehicle.getDailyRate());
+        if (vehicle.getWeeklyRate() == null) {
+            return Math.multiplyExact(dailyRate, (long) days);
+        }
+        long weeklyRate = Money.toMinorUnits(vehicle.getWeeklyRate());
+        long weeks = Math.multiplyExact(weeklyRate, (long) (days / DAYS_PER_WEEK));
+        return Math.addExact(weeks, Math.min(Math.multiplyExact(dailyRate, (long) (days % DAYS_PER_WEEK)), weeklyRate));
+    }
+
+    /**
+     * Scales the base by the average weekend/season multiplier over the rented days, rounding HALF_UP.
+     */
+    private long applyCalendar(final long base, final LocalDate startDate, final int days) {
+        if (days <= 0) {
+            return base;
+        }
+        long epochDay = startDate.toEpochDay();
+        int slot = slot(MonthDay.from(startDate));
+        boolean leapYear = startDate.isLeapYear();
+        int year = startDate.getYear();
+
+        long sum = 0;
+        for (int i = 0; i < days; i++) {
+            // Epoch day 0 was a Thursday, so (epochDay + 3) mod 7 counts from Monday = 0.
+            int dayOfWeek = (int) Math.floorMod(epochDay + i + 3, 7L);
+            long weekend = dayOfWeek >= 5 ? weekendBasisPoints : BASIS_POINTS;
+            sum += weekend * seasonBasisPoints[slot] / BASIS_POINTS;
+
+            slot++;
+            if (slot == FEB_29_SLOT && !leapYear) {
+                slot++;
+            }
+            if (slot == YEAR_SLOTS) {
+                slot = 0;
+                year++;
+                leapYear = Year.isLeap(year);
+            }
+        }
+        long neutral = BASIS_POINTS * days;
+        return sum == neutral ? base : Money.multiplyHalfUp(base, sum, neutral);
+    }
+
+    private long extrasTotal(final PricingInput input, final int days) {
+        if (input.extras() == null || input.extras().isEmpty()) {
+            return 0L;
+        }
+        long total = 0L;
+        for (BookingExtra extra : input.extras()) {
+            long price = Money.toMinorUnits(extra.getPricePerDay());
+            int quantity = extra.getQuantity() != null ? extra.getQuantity() : 1;
+            total = Math.addExact(total, Math.multiplyExact(Math.multiplyExact(price, (long) quantity), (long) days));
+        }
+        return total;
+    }
+
+    private static int slot(final MonthDay monthDay) {
+        // 2000 is a leap year, so every month-day has its own slot.
+        return monthDay.atYear(2000).getDayOfYear() - 1;
+    }
+
+    private static MonthDay parseMonthDay(final String value, final String seasonName) {
+        if (value == null) {
+            throw new IllegalArgumentException("Missing date in pricing season " + seasonName);
+        }
+        try {
+            return MonthDay.parse(value, MONTH_DAY);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid date '" + value + "' in pricing season " + seasonName, ex);
+        }
+    }
+
+    private static long toBasisPoints(final BigDecimal multiplier) {
+        if (multiplier == null) {
+            return BASIS_POINTS;
+        }
+        return multiplier.multiply(BigDecimal.valueOf(BASIS_POINTS)).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+}
@@ -0,0 +1,14 @@
+package brama.pressing_api.pricing.service;
+
+import brama.pressing_api.pricing.dto.request.QuoteRequest;
+import brama.pressing_api.pricing.dto.response.VehicleQuoteResponse;
+
+import java.util.List;
+
+public interface QuoteService {
+    /**
+     * Prices every requested vehicle for the same dates, extras and promo code.
+     * Unknown, inactive or in-maintenance vehicles are left out; the rest keep the request order.
+     */
+    List<VehicleQuoteResponse> quote(QuoteRequest request);
+}
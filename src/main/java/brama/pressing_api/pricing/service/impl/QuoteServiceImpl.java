@@ -0,0 +1,72 @@
+package brama.pressing_api.pricing.service.impl;
+
+import brama.pressing_api.booking.BookingMapper;
+import brama.pressing_api.booking.domain.model.BookingExtra;
+import brama.pressing_api.config.PricingProperties;
+import brama.pressing_api.exception.BusinessException;
+import brama.pressing_api.exception.ErrorCode;
+import brama.pressing_api.pricing.dto.request.QuoteRequest;
+import brama.pressing_api.pricing.dto.response.VehicleQuoteResponse;
+import brama.pressing_api.pricing.service.DiscountPolicy;
+import brama.pressing_api.pricing.service.PricingEngine;
+import brama.pressing_api.pricing.service.PricingInput;
+import brama.pressing_api.pricing.service.QuoteService;
+import brama.pressing_api.promotion.service.PromotionService;
+import brama.pressing_api.vehicle.domain.model.Vehicle;
+import brama.pressing_api.vehicle.domain.model.VehicleStatus;
+import brama.pressing_api.vehicle.repo.VehicleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class QuoteServiceImpl implements QuoteService {
+    private final VehicleRepository vehicleRepository;
+    private final PromotionService promotionService;
+    private final PricingEngine pricingEngine;
+    private final PricingProperties pricingProperties;
+
+    @Override
+    public List<VehicleQuoteResponse> quote(final QuoteRequest request) {
+        if (request.getStartDate() == null || request.getEndDate() == null
+                || !request.getStartDate().isBefore(request.getEndDate())) {
+            throw new BusinessException(ErrorCode.INVALID_DATE_RANGE);
+        }
+        // Quotes are public, and each one walks every rented day, so the span is capped like a booking's.
+        if (ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) > pricingProperties.getMaxRentalDays()) {
+            throw new BusinessException(ErrorCode.RENTAL_PERIOD_TOO_LONG);
+        }
+
+        List<String> vehicleIds = List.copyOf(new LinkedHashSet<>(request.getVehicleIds()));
+        Map<String, Vehicle> vehiclesById = new HashMap<>();
+        vehicleRepository.findAllById(vehicleIds).forEach(vehicle -> vehiclesById.put(vehicle.getId(), vehicle));
+
+        DiscountPolicy discountPolicy = promotionService.resolveDiscountPolicy(request.getPromoCode());
+        List<BookingExtra> extras = BookingMapper.toExtras(request.getExtras());
+
+        // Evaluated on the request thread: a parallel stream would let anonymous callers occupy the common pool.
+        return vehicleIds.stream()
+                .map(vehiclesById::get)
+                .filter(Objects::nonNull)
+                .filter(vehicle -> vehicle.getStatus() != VehicleStatus.INACTIVE
+                        && vehicle.getStatus() != VehicleStatus.MAINTENANCE
+                        && vehicle.getDailyRate() != null)
+                .map(vehicle -> VehicleQuoteResponse.builder()
+                        .vehicleId(vehicle.getId())
+                        .pricing(BookingMapper.toPricingResponse(pricingEngine.quote(new PricingInput(
+                                vehicle,
+                                request.getStartDate(),
+                                request.getEndDate(),
+                                extras,
+                                request.getPickupLocationId()), discountPolicy)))
+                        .build())
+                .toList();
+    }
+}
@@ -4,6 +4,9 @@ import brama.pressing_api.promotion.domain.model.Promotion;
 import brama.pressing_api.promotion.dto.request.CreatePromotionRequest;
 import brama.pressing_api.promotion.dto.request.UpdatePromotionRequest;
 import brama.pressing_api.promotion.dto.response.PromotionResponse;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
 
 public final class PromotionMapper {
     private PromotionMapper() {
@@ -25,36 +28,27 @@ public final class PromotionMapper {
                 .build();
     }
 
-    public static void applyUpdates(final Promotion promotion, final UpdatePromotionRequest request) {
-        if (request.getCode() != null) {
-            promotion.setCode(request.getCode());
-        }
-        if (request.getDescription() != null) {
-            promotion.setDescription(request.getDescription());
-        }
-        if (request.getDiscountType() != null) {
-            promotion.setDiscountType(request.getDiscountType());
-        }
-        if (request.getValue() != null) {
-            promotion.setValue(request.getValue());
-        }
-        if (request.getMinBookingAmount() != null) {
-            promotion.setMinBookingAmount(request.getMinBookingAmount());
-        }
-        if (request.getMaxDiscountAmount() != null) {
-            promotion.setMaxDiscountAmount(request.getMaxDiscountAmount());
-        }
-        if (request.getValidFrom() != null) {
-            promotion.setValidFrom(request.getValidFrom());
-        }
-        if (request.getValidUntil() != null) {
-            promotion.setValidUntil(request.getValidUntil());
-        }
-        if (request.getMaxRedemptions() != null) {
-            promotion.setMaxRedemptions(request.getMaxRedemptions());
-        }
-        if (request.getActive() != null) {
-            promotion.setActive(request.getActive());
+    /**
+     * Sets only the fields present in the request, so an edit never rewrites the usage count.
+     */
+    public static Update toUpdate(final UpdatePromotionRequest request) {
+        Update update = new Update();
+        setIfPresent(update, "code", request.getCode());
+        setIfPresent(update, "description", request.getDescription());
+        setIfPresent(update, "discount_type", request.getDiscountType());
+        setIfPresent(update, "value", request.getValue());
+        setIfPresent(update, "min_booking_amount", request.getMinBookingAmount());
+        setIfPresent(update, "max_discount_amount", request.getMaxDiscountAmount());
+        setIfPresent(update, "valid_from", request.getValidFrom());
+        setIfPresent(update, "valid_until", request.getValidUntil());
+        setIfPresent(update, "max_redemptions", request.getMaxRedemptions());
+        setIfPresent(update, "active", request.getActive());
+        return update.set("last_modified_date", LocalDateTime.now());
+    }
+
+    private static void setIfPresent(final Update update, final String field, final Object value) {
+        if (value != null) {
+            update.set(field, value);
         }
     }
 
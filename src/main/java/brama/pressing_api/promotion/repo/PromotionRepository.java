@@ -5,7 +5,7 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.Optional;
 
-public interface PromotionRepository extends MongoRepository<Promotion, String> {
+public interface PromotionRepository extends MongoRepository<Promotion, String>, PromotionRepositoryCustom {
     Optional<Promotion> findByCodeIgnoreCase(String code);
     boolean existsByCodeIgnoreCase(String code);
 }
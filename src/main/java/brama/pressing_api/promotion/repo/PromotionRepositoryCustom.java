@@ -0,0 +1,26 @@
+package brama.pressing_api.promotion.repo;
+
+import brama.pressing_api.promotion.domain.model.Promotion;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface PromotionRepositoryCustom {
+    /**
+     * Atomically counts one redemption if the promotion is active and valid on {@code today} and has not
+     * reached its max redemptions. Returns false otherwise.
+     */
+    boolean tryRedeem(String promotionId, LocalDate today);
+
+    /**
+     * Gives back a redemption counted by {@link #tryRedeem(String, LocalDate)}, never going below zero.
+     */
+    void releaseRedemption(String promotionId);
+
+    /**
+     * Applies {@code update} to the promotion and returns the updated document, or empty if it does not exist.
+     * Fields the update does not set, such as the usage count, are left as they are.
+     */
+    Optional<Promotion> updateFields(String promotionId, Update update);
+}
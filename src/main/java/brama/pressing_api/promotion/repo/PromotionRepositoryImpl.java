@@ -0,0 +1,61 @@
+package brama.pressing_api.promotion.repo;
+
+import brama.pressing_api.promotion.domain.model.Promotion;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class PromotionRepositoryImpl implements PromotionRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean tryRedeem(final String promotionId, final LocalDate today) {
+        // The limit check and the increment happen in one document update, so concurrent redemptions
+        // cannot both pass the check on the same count. Active and validity dates are checked here too,
+        // since the code cache that validated the promotion may predate an edit made on another instance.
+        Document belowLimit = new Document("$lt",
+                List.of(new Document("$ifNull", List.of("$usage_count", 0)), "$max_redemptions"));
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where("_id").is(promotionId),
+                Criteria.where("active").ne(false),
+                new Criteria().orOperator(
+                        Criteria.where("valid_from").is(null),
+                        Criteria.where("valid_from").lte(today)),
+                new Criteria().orOperator(
+                        Criteria.where("valid_until").is(null),
+                        Criteria.where("valid_until").gte(today)),
+                new Criteria().orOperator(
+                        Criteria.where("max_redemptions").is(null),
+                        Criteria.expr(() -> belowLimit))
+        ));
+        return mongoTemplate.updateFirst(query, new Update().inc("usage_count", 1), Promotion.class)
+                .getModifiedCount() == 1;
+    }
+
+    @Override
+    public void releaseRedemption(final String promotionId) {
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where("_id").is(promotionId),
+                Criteria.where("usage_count").gt(0)
+        ));
+        mongoTemplate.updateFirst(query, new Update().inc("usage_count", -1), Promotion.class);
+    }
+
+    @Override
+    public Optional<Promotion> updateFields(final String promotionId, final Update update) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                new Query(Criteria.where("_id").is(promotionId)),
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                Promotion.class));
+    }
+}
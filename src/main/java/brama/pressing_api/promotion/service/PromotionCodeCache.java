@@ -0,0 +1,50 @@
+package brama.pressing_api.promotion.service;
+
+import brama.pressing_api.promotion.domain.model.Promotion;
+import brama.pressing_api.promotion.repo.PromotionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process cache of promotions keyed by lowercase code, including misses, so quotes and bookings
+ * do not query Mongo for every promo code check. Entries expire after {@code app.promotions.cache-ttl}
+ * and the whole cache is dropped on any admin change. Cached usage counts may be stale; the
+ * redemption limit itself is enforced in Mongo by {@code PromotionRepositoryCustom.tryRedeem}.
+ */
+@Component
+@RequiredArgsConstructor
+public class PromotionCodeCache {
+    private final PromotionRepository promotionRepository;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${app.promotions.cache-ttl:PT1M}")
+    private Duration ttl;
+
+    public Optional<Promotion> find(final String code) {
+        if (code == null || code.isBlank()) {
+            return Optional.empty();
+        }
+        String key = code.trim().toLowerCase(Locale.ROOT);
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry == null || now - entry.loadedAt() > ttl.toNanos()) {
+            entry = new Entry(promotionRepository.findByCodeIgnoreCase(code.trim()), now);
+            entries.put(key, entry);
+        }
+        return entry.promotion();
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private record Entry(Optional<Promotion> promotion, long loadedAt) {
+    }
+}
@@ -1,5 +1,6 @@
 package brama.pressing_api.promotion.service;
 
+import brama.pressing_api.pricing.service.DiscountPolicy;
 import brama.pressing_api.promotion.dto.request.CreatePromotionRequest;
 import brama.pressing_api.promotion.dto.request.UpdatePromotionRequest;
 import brama.pressing_api.promotion.dto.response.PromotionResponse;
@@ -23,4 +24,23 @@ public interface PromotionService {
     PromotionValidationResponse validateCode(String code, BigDecimal bookingAmount);
 
     BigDecimal calculateDiscount(String code, BigDecimal bookingAmount);
+
+    /**
+     * Looks the code up once and returns a discount that can be applied to many subtotals.
+     * Subtotals below the promotion's minimum amount get no discount.
+     */
+    DiscountPolicy resolveDiscountPolicy(String code);
+
+    /**
+     * Counts one use of the code, rejecting it once max redemptions is reached, and returns the id of the
+     * redeemed promotion. No-op returning null for a blank code.
+     */
+    String redeem(String code);
+
+    /**
+     * Gives back a use counted by {@link #redeem(String)} when the booking it was for is not created or is canceled.
+     * Takes the promotion id returned by the redemption, so a code renamed or deleted since is still released.
+     * No-op for a null id.
+     */
+    void releaseRedemption(String promotionId);
 }
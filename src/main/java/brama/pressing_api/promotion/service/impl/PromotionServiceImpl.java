@@ -3,6 +3,7 @@ package brama.pressing_api.promotion.service.impl;
 import brama.pressing_api.exception.BusinessException;
 import brama.pressing_api.exception.EntityNotFoundException;
 import brama.pressing_api.exception.ErrorCode;
+import brama.pressing_api.pricing.service.DiscountPolicy;
 import brama.pressing_api.promotion.PromotionMapper;
 import brama.pressing_api.promotion.domain.model.DiscountType;
 import brama.pressing_api.promotion.domain.model.Promotion;
@@ -11,6 +12,7 @@ import brama.pressing_api.promotion.dto.request.UpdatePromotionRequest;
 import brama.pressing_api.promotion.dto.response.PromotionResponse;
 import brama.pressing_api.promotion.dto.response.PromotionValidationResponse;
 import brama.pressing_api.promotion.repo.PromotionRepository;
+import brama.pressing_api.promotion.service.PromotionCodeCache;
 import brama.pressing_api.promotion.service.PromotionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -25,6 +27,7 @@ import java.time.LocalDate;
 @RequiredArgsConstructor
 public class PromotionServiceImpl implements PromotionService {
     private final PromotionRepository promotionRepository;
+    private final PromotionCodeCache promotionCodeCache;
 
     @Override
     public PromotionResponse create(final CreatePromotionRequest request) {
@@ -32,7 +35,9 @@ public class PromotionServiceImpl implements PromotionService {
             throw new BusinessException(ErrorCode.PROMO_CODE_EXISTS);
         }
         Promotion promotion = PromotionMapper.toEntity(request);
-        return PromotionMapper.toResponse(promotionRepository.save(promotion));
+        Promotion saved = promotionRepository.save(promotion);
+        promotionCodeCache.invalidateAll();
+        return PromotionMapper.toResponse(saved);
     }
 
     @Override
@@ -44,8 +49,10 @@ public class PromotionServiceImpl implements PromotionService {
                 throw new BusinessException(ErrorCode.PROMO_CODE_EXISTS);
             }
         }
-        PromotionMapper.applyUpdates(promotion, request);
-        return PromotionMapper.toResponse(promotionRepository.save(promotion));
+        Promotion saved = promotionRepository.updateFields(promotionId, PromotionMapper.toUpdate(request))
+                .orElseThrow(() -> new EntityNotFoundException("Promotion not found"));
+        promotionCodeCache.invalidateAll();
+        return PromotionMapper.toResponse(saved);
     }
 
     @Override
@@ -61,6 +68,7 @@ public class PromotionServiceImpl implements PromotionService {
             throw new EntityNotFoundException("Promotion not found");
         }
         promotionRepository.deleteById(promotionId);
+        promotionCodeCache.invalidateAll();
     }
 
     @Override
@@ -78,7 +86,7 @@ public class PromotionServiceImpl implements PromotionService {
                     .message("Promo code is required")
                     .build();
         }
-        Promotion promotion = promotionRepository.findByCodeIgnoreCase(code)
+        Promotion promotion = promotionCodeCache.find(code)
                 .orElse(null);
         if (promotion == null || !isValidPromotion(promotion, bookingAmount)) {
             return PromotionValidationResponse.builder()
@@ -102,7 +110,7 @@ public class PromotionServiceImpl implements PromotionService {
         if (code == null || code.isBlank()) {
             return BigDecimal.ZERO;
         }
-        Promotion promotion = promotionRepository.findByCodeIgnoreCase(code)
+        Promotion promotion = promotionCodeCache.find(code)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PROMO_CODE_INVALID));
         if (!isValidPromotion(promotion, bookingAmount)) {
             throw new BusinessException(ErrorCode.PROMO_CODE_INVALID);
@@ -110,6 +118,41 @@ public class PromotionServiceImpl implements PromotionService {
         return calculateDiscountAmount(promotion, bookingAmount);
     }
 
+    @Override
+    public DiscountPolicy resolveDiscountPolicy(final String code) {
+        if (code == null || code.isBlank()) {
+            return DiscountPolicy.NONE;
+        }
+        Promotion promotion = promotionCodeCache.find(code)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PROMO_CODE_INVALID));
+        if (!isValidPromotion(promotion, null)) {
+            throw new BusinessException(ErrorCode.PROMO_CODE_INVALID);
+        }
+        return subtotal -> isValidPromotion(promotion, subtotal)
+                ? calculateDiscountAmount(promotion, subtotal)
+                : BigDecimal.ZERO;
+    }
+
+    @Override
+    public String redeem(final String code) {
+        if (code == null || code.isBlank()) {
+            return null;
+        }
+        Promotion promotion = promotionCodeCache.find(code)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PROMO_CODE_INVALID));
+        if (!promotionRepository.tryRedeem(promotion.getId(), LocalDate.now())) {
+            throw new BusinessException(ErrorCode.PROMO_CODE_INVALID);
+        }
+        return promotion.getId();
+    }
+
+    @Override
+    public void releaseRedemption(final String promotionId) {
+        if (promotionId != null) {
+            promotionRepository.releaseRedemption(promotionId);
+        }
+    }
+
     private boolean isValidPromotion(final Promotion promotion, final BigDecimal bookingAmount) {
         if (Boolean.FALSE.equals(promotion.getActive())) {
             return false;
@@ -0,0 +1,33 @@
+package brama.pressing_api.reservation;
+
+import brama.pressing_api.common.CursorPageResponse;
+import brama.pressing_api.reservation.dto.response.ReservationTimelineItemResponse;
+import brama.pressing_api.reservation.service.ReservationTimelineService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Customer timeline across car, excursion and circuit bookings.
+ */
+@RestController
+@RequestMapping("/api/v1/reservations")
+@RequiredArgsConstructor
+@Tag(name = "Reservations", description = "Customer reservation timeline")
+public class ReservationTimelineController {
+    private final ReservationTimelineService timelineService;
+
+    /**
+     * Lists the authenticated user's reservations of every kind, latest date first. Pass the previous page's
+     * {@code nextCursor} as {@code after} to continue.
+     */
+    @GetMapping("/timeline")
+    public CursorPageResponse<ReservationTimelineItemResponse> listMyTimeline(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        return timelineService.listMyTimeline(after, size);
+    }
+}
@@ -0,0 +1,51 @@
+package brama.pressing_api.reservation;
+
+import brama.pressing_api.booking.domain.model.Booking;
+import brama.pressing_api.booking.domain.model.BookingPricing;
+import brama.pressing_api.circuit.domain.CircuitBooking;
+import brama.pressing_api.excursionbooking.domain.model.ExcursionBooking;
+import brama.pressing_api.reservation.domain.model.ReservationType;
+import brama.pressing_api.reservation.dto.response.ReservationTimelineItemResponse;
+
+public final class ReservationTimelineMapper {
+    private ReservationTimelineMapper() {
+    }
+
+    public static ReservationTimelineItemResponse fromBooking(final Booking booking) {
+        BookingPricing pricing = booking.getPricing();
+        return ReservationTimelineItemResponse.builder()
+                .type(ReservationType.CAR)
+                .id(booking.getId())
+                .title(booking.getVehicleName())
+                .date(booking.getStartDate())
+                .endDate(booking.getEndDate())
+                .status(booking.getStatus() != null ? booking.getStatus().name() : null)
+                .total(pricing != null ? pricing.getTotal() : null)
+                .currency(pricing != null ? pricing.getCurrency() : null)
+                .build();
+    }
+
+    public static ReservationTimelineItemResponse fromExcursionBooking(final ExcursionBooking booking) {
+        return ReservationTimelineItemResponse.builder()
+                .type(ReservationType.EXCURSION)
+                .id(booking.getId())
+                .title(booking.getExcursionTitle())
+                .date(booking.getSelectedDate())
+                .quantity(booking.getNumberOfSeats())
+                .status(booking.getStatus() != null ? booking.getStatus().name() : null)
+                .total(booking.getTotalPrice())
+                .build();
+    }
+
+    public static ReservationTimelineItemResponse fromCircuitBooking(final CircuitBooking booking) {
+        return ReservationTimelineItemResponse.builder()
+                .type(ReservationType.CIRCUIT)
+                .id(booking.getId())
+                .title(booking.getCircuitTitle())
+                .date(booking.getSelectedDate())
+                .quantity(booking.getNumberOfPassengers())
+                .status(booking.getStatus() != null ? booking.getStatus().name() : null)
+                .total(booking.getTotalPrice())
+                .build();
+    }
+}
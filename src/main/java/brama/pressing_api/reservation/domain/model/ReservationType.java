@@ -0,0 +1,7 @@
+package brama.pressing_api.reservation.domain.model;
+
+public enum ReservationType {
+    CAR,
+    EXCURSION,
+    CIRCUIT
+}
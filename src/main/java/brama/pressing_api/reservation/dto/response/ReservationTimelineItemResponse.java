@@ -0,0 +1,31 @@
+package brama.pressing_api.reservation.dto.response;
+
+import brama.pressing_api.reservation.domain.model.ReservationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One entry of a customer's reservation timeline; {@code type} and {@code id} point at the product's detail endpoint.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationTimelineItemResponse {
+    private ReservationType type;
+    private String id;
+    private String title;
+    private LocalDate date;
+    private LocalDate endDate;
+    private Integer quantity;
+    private String status;
+    private BigDecimal total;
+    private String currency;
+}
@@ -0,0 +1,60 @@
+package brama.pressing_api.reservation.service;
+
+import brama.pressing_api.circuit.domain.CircuitBooking;
+import brama.pressing_api.excursionbooking.domain.model.ExcursionBooking;
+import brama.pressing_api.scheduling.service.SchedulerLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Fills {@code customer_email_key} on excursion and circuit bookings created before the field existed, so the
+ * guest branch of the reservation timeline finds them. Runs at startup on one replica; each pass only touches
+ * documents still missing the key.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GuestEmailKeyBackfill {
+    private static final String LOCK_NAME = "guest-email-key-backfill";
+
+    private final MongoTemplate mongoTemplate;
+    private final SchedulerLockService lockService;
+
+    @Value("${app.reservations.email-key-backfill-lease:PT10M}")
+    private Duration lease;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        lockService.runIfLeader(LOCK_NAME, lease, this::backfill);
+    }
+
+    public void backfill() {
+        long excursions = backfill(ExcursionBooking.class);
+        long circuits = backfill(CircuitBooking.class);
+        if (excursions + circuits > 0) {
+            log.info("Filled customer_email_key on {} excursion and {} circuit bookings", excursions, circuits);
+        }
+    }
+
+    private long backfill(final Class<?> type) {
+        Query missing = new Query(Criteria.where("customer_email_key").exists(false)
+                .and("customer_email").ne(null));
+        // Same normalisation as EmailKeys.of, evaluated server-side.
+        Document emailKey = new Document("$toLower", new Document("$trim", new Document("input", "$customer_email")));
+        AggregationUpdate update = AggregationUpdate.from(List.of(
+                context -> new Document("$set", new Document("customer_email_key", emailKey))));
+        return mongoTemplate.updateMulti(missing, update, type).getModifiedCount();
+    }
+}
@@ -0,0 +1,41 @@
+package brama.pressing_api.reservation.service;
+
+import brama.pressing_api.common.CursorTokens;
+import brama.pressing_api.exception.BusinessException;
+import brama.pressing_api.exception.ErrorCode;
+import brama.pressing_api.reservation.dto.response.ReservationTimelineItemResponse;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Keyset position in the merged timeline: the (date, id) of the last entry returned. Ids are ObjectIds,
+ * unique across the three booking collections, so the pair is a total order over all of them.
+ * Entries without a date (circuit bookings may have none) come after all the others.
+ */
+public record ReservationTimelineCursor(LocalDate date, String id) {
+    private static final String NO_DATE = "null";
+
+    public static ReservationTimelineCursor of(final ReservationTimelineItemResponse item) {
+        return new ReservationTimelineCursor(item.getDate(), item.getId());
+    }
+
+    public static ReservationTimelineCursor decode(final String token) {
+        String[] parts = CursorTokens.decode(token);
+        if (parts == null) {
+            return null;
+        }
+        if (NO_DATE.equals(parts[0])) {
+            return new ReservationTimelineCursor(null, parts[1]);
+        }
+        try {
+            return new ReservationTimelineCursor(LocalDate.parse(parts[0]), parts[1]);
+        } catch (DateTimeParseException ex) {
+            throw new BusinessException(ErrorCode.INVALID_PAGE_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return CursorTokens.encode(date != null ? date.toString() : NO_DATE, id);
+    }
+}
@@ -0,0 +1,8 @@
+package brama.pressing_api.reservation.service;
+
+import brama.pressing_api.common.CursorPageResponse;
+import brama.pressing_api.reservation.dto.response.ReservationTimelineItemResponse;
+
+public interface ReservationTimelineService {
+    CursorPageResponse<ReservationTimelineItemResponse> listMyTimeline(String after, int size);
+}
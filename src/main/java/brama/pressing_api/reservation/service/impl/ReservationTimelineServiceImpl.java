@@ -0,0 +1,96 @@
+package brama.pressing_api.reservation.service.impl;
+
+import brama.pressing_api.booking.repo.BookingRepository;
+import brama.pressing_api.circuit.repo.CircuitBookingRepository;
+import brama.pressing_api.common.CursorPageResponse;
+import brama.pressing_api.exception.BusinessException;
+import brama.pressing_api.exception.ErrorCode;
+import brama.pressing_api.excursionbooking.repo.ExcursionBookingRepository;
+import brama.pressing_api.reservation.ReservationTimelineMapper;
+import brama.pressing_api.reservation.dto.response.ReservationTimelineItemResponse;
+import brama.pressing_api.reservation.service.ReservationTimelineCursor;
+import brama.pressing_api.reservation.service.ReservationTimelineService;
+import brama.pressing_api.utils.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+@Service
+@RequiredArgsConstructor
+public class ReservationTimelineServiceImpl implements ReservationTimelineService {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // Newest first; matches the (date desc, _id desc) index order of every source.
+    private static final Comparator<ReservationTimelineItemResponse> TIMELINE_ORDER = Comparator
+            .comparing(ReservationTimelineItemResponse::getDate, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()))
+            .thenComparing(ReservationTimelineItemResponse::getId)
+            .reversed();
+
+    private final BookingRepository bookingRepository;
+    private final ExcursionBookingRepository excursionBookingRepository;
+    private final CircuitBookingRepository circuitBookingRepository;
+
+    /**
+     * Each source returns at most {@code size + 1} entries after the cursor, already in timeline order
+     * from its index, and the sources are merged by repeatedly taking the newest head. A page therefore
+     * reads at most three short index ranges, however many reservations the user has.
+     */
+    @Override
+    public CursorPageResponse<ReservationTimelineItemResponse> listMyTimeline(final String after, final int size) {
+        String userId = SecurityUtils.getCurrentUserId()
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        String email = SecurityUtils.getCurrentUserEmail().orElse(null);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        ReservationTimelineCursor cursor = ReservationTimelineCursor.decode(after);
+        LocalDate date = cursor != null ? cursor.date() : null;
+        String id = cursor != null ? cursor.id() : null;
+        int limit = pageSize + 1;
+
+        List<Iterator<ReservationTimelineItemResponse>> sources = List.of(
+                bookingRepository.findUserSummariesAfter(userId, date, id, limit).stream()
+                        .map(ReservationTimelineMapper::fromBooking).iterator(),
+                excursionBookingRepository.findOwnedAfter(userId, email, date, id, limit).stream()
+                        .map(ReservationTimelineMapper::fromExcursionBooking).iterator(),
+                circuitBookingRepository.findOwnedAfter(userId, email, date, id, limit).stream()
+                        .map(ReservationTimelineMapper::fromCircuitBooking).iterator());
+
+        List<ReservationTimelineItemResponse> merged = merge(sources, limit);
+        boolean hasNext = merged.size() > pageSize;
+        List<ReservationTimelineItemResponse> page = hasNext ? merged.subList(0, pageSize) : merged;
+        return CursorPageResponse.<ReservationTimelineItemResponse>builder()
+                .content(page)
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? ReservationTimelineCursor.of(page.get(page.size() - 1)).encode() : null)
+                .build();
+    }
+
+    private List<ReservationTimelineItemResponse> merge(final List<Iterator<ReservationTimelineItemResponse>> sources,
+                                                        final int limit) {
+        PriorityQueue<Head> heads = new PriorityQueue<>(sources.size(),
+                Comparator.comparing(Head::item, TIMELINE_ORDER));
+        for (Iterator<ReservationTimelineItemResponse> source : sources) {
+            if (source.hasNext()) {
+                heads.add(new Head(source.next(), source));
+            }
+        }
+        List<ReservationTimelineItemResponse> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Head head = heads.poll();
+            merged.add(head.item());
+            if (head.source().hasNext()) {
+                heads.add(new Head(head.source().next(), head.source()));
+            }
+        }
+        return merged;
+    }
+
+    private record Head(ReservationTimelineItemResponse item, Iterator<ReservationTimelineItemResponse> source) {
+    }
+}
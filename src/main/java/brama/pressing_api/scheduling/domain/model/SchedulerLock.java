@@ -0,0 +1,35 @@
+package brama.pressing_api.scheduling.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.Instant;
+
+/**
+ * A named lease on a scheduled job. The instance named in {@code owner} may run the job until {@code locked_until}.
+ */
+@Document(collection = "scheduler_locks")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SchedulerLock {
+    @Id
+    private String id;
+
+    @Field("owner")
+    private String owner;
+
+    @Field("locked_at")
+    private Instant lockedAt;
+
+    @Field("locked_until")
+    private Instant lockedUntil;
+}
@@ -0,0 +1,71 @@
+package brama.pressing_api.scheduling.service;
+
+import brama.pressing_api.scheduling.domain.model.SchedulerLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Elects a single replica to run a scheduled job. A lease is taken with one conditional upsert on the job's
+ * lock document: it matches only when the lease has run out or is already ours, and otherwise the upsert's
+ * insert hits the duplicate {@code _id} and the caller skips the run. A crashed holder blocks the job
+ * for at most one lease.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SchedulerLockService {
+    private final MongoTemplate mongoTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * Runs the task if this instance can take the named lease, and returns whether it ran.
+     */
+    public boolean runIfLeader(final String name, final Duration lease, final Runnable task) {
+        if (!tryAcquire(name, lease)) {
+            log.debug("Skipping {}: lease held by another instance", name);
+            return false;
+        }
+        try {
+            task.run();
+        } finally {
+            release(name);
+        }
+        return true;
+    }
+
+    private boolean tryAcquire(final String name, final Duration lease) {
+        Instant now = Instant.now();
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where("_id").is(name),
+                new Criteria().orOperator(
+                        Criteria.where("locked_until").lte(now),
+                        Criteria.where("owner").is(instanceId))));
+        Update update = new Update()
+                .set("owner", instanceId)
+                .set("locked_at", now)
+                .set("locked_until", now.plus(lease));
+        try {
+            mongoTemplate.upsert(query, update, SchedulerLock.class);
+            return true;
+        } catch (DuplicateKeyException ex) {
+            return false;
+        }
+    }
+
+    private void release(final String name) {
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where("_id").is(name),
+                Criteria.where("owner").is(instanceId)));
+        mongoTemplate.updateFirst(query, new Update().set("locked_until", Instant.now()), SchedulerLock.class);
+    }
+}
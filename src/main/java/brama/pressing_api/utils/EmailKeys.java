@@ -0,0 +1,18 @@
+package brama.pressing_api.utils;
+
+import java.util.Locale;
+
+/**
+ * Normalised form of an email address for exact, index-backed lookups: trimmed and lowercased.
+ */
+public final class EmailKeys {
+    private EmailKeys() {
+    }
+
+    public static String of(final String email) {
+        if (email == null || email.isBlank()) {
+            return null;
+        }
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
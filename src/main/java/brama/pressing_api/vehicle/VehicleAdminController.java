@@ -72,4 +72,13 @@ public class VehicleAdminController {
         vehicleService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Recomputes the vehicle availability index and calendars from the bookings collection.
+     */
+    @PostMapping("/availability/rebuild")
+    public ResponseEntity<Void> rebuildAvailability() {
+        vehicleService.rebuildAvailability();
+        return ResponseEntity.noContent().build();
+    }
 }
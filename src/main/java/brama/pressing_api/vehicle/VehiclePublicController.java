@@ -3,6 +3,7 @@ package brama.pressing_api.vehicle;
 import brama.pressing_api.vehicle.domain.model.FuelType;
 import brama.pressing_api.vehicle.domain.model.TransmissionType;
 import brama.pressing_api.vehicle.domain.model.VehicleCategory;
+import brama.pressing_api.vehicle.dto.response.VehicleAvailabilityResponse;
 import brama.pressing_api.vehicle.dto.response.VehicleResponse;
 import brama.pressing_api.vehicle.service.VehicleSearchCriteria;
 import brama.pressing_api.vehicle.service.VehicleService;
@@ -66,4 +67,13 @@ public class VehiclePublicController {
     public VehicleResponse getVehicleById(@PathVariable String id) {
         return vehicleService.getById(id);
     }
+
+    /**
+     * Returns the busy days of a vehicle for the next months, served from the in-memory availability index.
+     */
+    @GetMapping("/{id}/availability")
+    public VehicleAvailabilityResponse getAvailability(@PathVariable String id,
+                                                       @RequestParam(defaultValue = "3") int months) {
+        return vehicleService.getAvailabilityCalendar(id, months);
+    }
 }
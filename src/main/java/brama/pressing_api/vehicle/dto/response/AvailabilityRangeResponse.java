@@ -0,0 +1,19 @@
+package brama.pressing_api.vehicle.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityRangeResponse {
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
@@ -0,0 +1,22 @@
+package brama.pressing_api.vehicle.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehicleAvailabilityResponse {
+    private String vehicleId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<AvailabilityRangeResponse> busyRanges;
+}
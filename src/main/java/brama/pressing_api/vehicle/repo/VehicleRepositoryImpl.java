@@ -1,25 +1,125 @@
 package brama.pressing_api.vehicle.repo;
 
+import brama.pressing_api.booking.domain.model.BookingStatus;
 import brama.pressing_api.vehicle.domain.model.Vehicle;
 import brama.pressing_api.vehicle.service.VehicleSearchCriteria;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 @RequiredArgsConstructor
 public class VehicleRepositoryImpl implements VehicleRepositoryCustom {
+    private static final String BLOCKING_BOOKINGS = "blocking_bookings";
+    private static final String VEHICLE_ID_KEY = "vehicle_id_key";
+
     private final MongoTemplate mongoTemplate;
 
     @Override
     public Page<Vehicle> search(final VehicleSearchCriteria criteria, final Pageable pageable) {
+        List<Criteria> filters = buildFilters(criteria);
+
+        if (criteria.getStartDate() != null && criteria.getEndDate() != null
+                && criteria.getBlockingStatuses() != null && !criteria.getBlockingStatuses().isEmpty()) {
+            return searchAvailable(criteria, filters, pageable);
+        }
+
         Query query = new Query();
+        if (!filters.isEmpty()) {
+            query.addCriteria(new Criteria().andOperator(filters.toArray(new Criteria[0])));
+        }
+
+        long total = mongoTemplate.count(query, Vehicle.class);
+        List<Vehicle> results = mongoTemplate.find(query.with(pageable), Vehicle.class);
+        return new PageImpl<>(results, pageable, total);
+    }
+
+    /**
+     * Runs the vehicle filters, the booking overlap check and pagination as one aggregation:
+     * each candidate vehicle looks up at most one blocking booking for the requested dates
+     * and is dropped if it finds one, then a facet returns the total and the requested page together.
+     */
+    private Page<Vehicle> searchAvailable(final VehicleSearchCriteria criteria,
+                                          final List<Criteria> filters,
+                                          final Pageable pageable) {
+        List<AggregationOperation> stages = new ArrayList<>();
+        if (!filters.isEmpty()) {
+            stages.add(Aggregation.match(new Criteria().andOperator(filters.toArray(new Criteria[0]))));
+        }
+        stages.addAll(excludeBlocked(criteria.getStartDate(), criteria.getEndDate(), criteria.getBlockingStatuses()));
+
+        List<AggregationOperation> pageStages = new ArrayList<>();
+        if (pageable.getSort().isSorted()) {
+            pageStages.add(Aggregation.sort(pageable.getSort()));
+        }
+        pageStages.add(Aggregation.skip(pageable.isPaged() ? pageable.getOffset() : 0L));
+        if (pageable.isPaged()) {
+            pageStages.add(Aggregation.limit(pageable.getPageSize()));
+        }
+        stages.add(Aggregation.facet(Aggregation.count().as("count")).as("total")
+                .and(pageStages.toArray(new AggregationOperation[0])).as("content"));
+
+        Document result = mongoTemplate.aggregate(Aggregation.newAggregation(stages), Vehicle.class, Document.class)
+                .getUniqueMappedResult();
+        if (result == null) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        List<Document> totals = result.getList("total", Document.class, List.of());
+        long total = totals.isEmpty() ? 0 : ((Number) totals.get(0).get("count")).longValue();
+        List<Vehicle> content = result.getList("content", Document.class, List.of())
+                .stream()
+                .map(document -> mongoTemplate.getConverter().read(Vehicle.class, document))
+                .toList();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * Drops vehicles with a blocking booking overlapping [startDate, endDate]. Bookings store the vehicle id as a
+     * string, so the id is converted once per vehicle and joined with {@code localField}/{@code foreignField}
+     * (MongoDB 5.0+): the join equality and the pipeline filter together match {@code vehicle_status_dates_idx},
+     * whereas an {@code $expr} comparison against a variable cannot use it.
+     */
+    List<AggregationOperation> excludeBlocked(final LocalDate startDate,
+                                              final LocalDate endDate,
+                                              final Iterable<BookingStatus> statuses) {
+        List<String> statusNames = new ArrayList<>();
+        statuses.forEach(status -> statusNames.add(status.name()));
+        Object start = mongoTemplate.getConverter().convertToMongoType(startDate);
+        Object end = mongoTemplate.getConverter().convertToMongoType(endDate);
+
+        Document overlap = new Document("status", new Document("$in", statusNames))
+                .append("start_date", new Document("$lte", end))
+                .append("end_date", new Document("$gte", start));
+
+        Document lookup = new Document("from", "bookings")
+                .append("localField", VEHICLE_ID_KEY)
+                .append("foreignField", "vehicle_id")
+                .append("pipeline", List.of(
+                        new Document("$match", overlap),
+                        new Document("$limit", 1),
+                        new Document("$project", new Document("_id", 1))))
+                .append("as", BLOCKING_BOOKINGS);
+
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(context -> new Document("$addFields",
+                new Document(VEHICLE_ID_KEY, new Document("$toString", "$_id"))));
+        stages.add(context -> new Document("$lookup", lookup));
+        stages.add(Aggregation.match(Criteria.where(BLOCKING_BOOKINGS).size(0)));
+        stages.add(context -> new Document("$project", new Document(BLOCKING_BOOKINGS, 0).append(VEHICLE_ID_KEY, 0)));
+        return stages;
+    }
+
+    private List<Criteria> buildFilters(final VehicleSearchCriteria criteria) {
         List<Criteria> filters = new ArrayList<>();
 
         if (criteria.getLocationId() != null && !criteria.getLocationId().isBlank()) {
@@ -46,16 +146,6 @@ public class VehicleRepositoryImpl implements VehicleRepositoryCustom {
         if (criteria.getStatuses() != null && !criteria.getStatuses().isEmpty()) {
             filters.add(Criteria.where("status").in(criteria.getStatuses()));
         }
-        if (criteria.getExcludeVehicleIds() != null && !criteria.getExcludeVehicleIds().isEmpty()) {
-            filters.add(Criteria.where("_id").nin(criteria.getExcludeVehicleIds()));
-        }
-
-        if (!filters.isEmpty()) {
-            query.addCriteria(new Criteria().andOperator(filters.toArray(new Criteria[0])));
-        }
-
-        long total = mongoTemplate.count(query, Vehicle.class);
-        List<Vehicle> results = mongoTemplate.find(query.with(pageable), Vehicle.class);
-        return new PageImpl<>(results, pageable, total);
+        return filters;
     }
 }
@@ -1,5 +1,6 @@
 package brama.pressing_api.vehicle.service;
 
+import brama.pressing_api.booking.domain.model.BookingStatus;
 import brama.pressing_api.vehicle.domain.model.FuelType;
 import brama.pressing_api.vehicle.domain.model.TransmissionType;
 import brama.pressing_api.vehicle.domain.model.VehicleCategory;
@@ -24,5 +25,5 @@ public class VehicleSearchCriteria {
     private BigDecimal minPrice;
     private BigDecimal maxPrice;
     private Set<VehicleStatus> statuses;
-    private Set<String> excludeVehicleIds;
+    private Set<BookingStatus> blockingStatuses;
 }
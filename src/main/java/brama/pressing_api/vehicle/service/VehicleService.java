@@ -2,6 +2,7 @@ package brama.pressing_api.vehicle.service;
 
 import brama.pressing_api.vehicle.dto.request.CreateVehicleRequest;
 import brama.pressing_api.vehicle.dto.request.UpdateVehicleRequest;
+import brama.pressing_api.vehicle.dto.response.VehicleAvailabilityResponse;
 import brama.pressing_api.vehicle.dto.response.VehicleResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,4 +19,8 @@ public interface VehicleService {
     Page<VehicleResponse> searchPublic(VehicleSearchCriteria criteria, Pageable pageable);
 
     Page<VehicleResponse> listAdmin(Pageable pageable);
+
+    VehicleAvailabilityResponse getAvailabilityCalendar(String vehicleId, int months);
+
+    void rebuildAvailability();
 }
@@ -1,7 +1,6 @@
 package brama.pressing_api.vehicle.service.impl;
 
-import brama.pressing_api.booking.domain.model.BookingStatus;
-import brama.pressing_api.booking.repo.BookingRepository;
+import brama.pressing_api.booking.service.BookingAvailabilityIndex;
 import brama.pressing_api.exception.BusinessException;
 import brama.pressing_api.exception.EntityNotFoundException;
 import brama.pressing_api.exception.ErrorCode;
@@ -10,11 +9,15 @@ import brama.pressing_api.vehicle.domain.model.Vehicle;
 import brama.pressing_api.vehicle.domain.model.VehicleStatus;
 import brama.pressing_api.vehicle.dto.request.CreateVehicleRequest;
 import brama.pressing_api.vehicle.dto.request.UpdateVehicleRequest;
+import brama.pressing_api.vehicle.dto.response.AvailabilityRangeResponse;
+import brama.pressing_api.vehicle.dto.response.VehicleAvailabilityResponse;
 import brama.pressing_api.vehicle.dto.response.VehicleResponse;
 import brama.pressing_api.vehicle.repo.VehicleRepository;
 import brama.pressing_api.vehicle.service.VehicleSearchCriteria;
 import brama.pressing_api.vehicle.service.VehicleService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
@@ -22,16 +25,20 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class VehicleServiceImpl implements VehicleService {
+    private static final int MAX_CALENDAR_MONTHS = 12;
+    private static final String VEHICLES_CACHE = "vehicles";
+
     private final VehicleRepository vehicleRepository;
-    private final BookingRepository bookingRepository;
+    private final BookingAvailabilityIndex availabilityIndex;
+    private final CacheManager cacheManager;
 
     @Override
     @CacheEvict(cacheNames = "vehicles", allEntries = true)
@@ -68,43 +75,25 @@ public class VehicleServiceImpl implements VehicleService {
 
     @Override
     public Page<VehicleResponse> searchPublic(final VehicleSearchCriteria criteria, final Pageable pageable) {
-        VehicleSearchCriteria effective = criteria;
         if (criteria.getStartDate() != null || criteria.getEndDate() != null) {
             validateDateRange(criteria.getStartDate(), criteria.getEndDate());
         }
 
-        if (criteria.getStatuses() == null || criteria.getStatuses().isEmpty()) {
-            effective = VehicleSearchCriteria.builder()
-                    .locationId(criteria.getLocationId())
-                    .startDate(criteria.getStartDate())
-                    .endDate(criteria.getEndDate())
-                    .category(criteria.getCategory())
-                    .transmission(criteria.getTransmission())
-                    .fuelType(criteria.getFuelType())
-                    .minSeats(criteria.getMinSeats())
-                    .minPrice(criteria.getMinPrice())
-                    .maxPrice(criteria.getMaxPrice())
-                    .statuses(EnumSet.of(VehicleStatus.AVAILABLE))
-                    .excludeVehicleIds(criteria.getExcludeVehicleIds())
-                    .build();
-        }
-
-        if (effective.getStartDate() != null && effective.getEndDate() != null) {
-            Set<String> reservedVehicleIds = getReservedVehicleIds(effective.getStartDate(), effective.getEndDate());
-            effective = VehicleSearchCriteria.builder()
-                    .locationId(effective.getLocationId())
-                    .startDate(effective.getStartDate())
-                    .endDate(effective.getEndDate())
-                    .category(effective.getCategory())
-                    .transmission(effective.getTransmission())
-                    .fuelType(effective.getFuelType())
-                    .minSeats(effective.getMinSeats())
-                    .minPrice(effective.getMinPrice())
-                    .maxPrice(effective.getMaxPrice())
-                    .statuses(effective.getStatuses())
-                    .excludeVehicleIds(reservedVehicleIds)
-                    .build();
-        }
+        VehicleSearchCriteria effective = VehicleSearchCriteria.builder()
+                .locationId(criteria.getLocationId())
+                .startDate(criteria.getStartDate())
+                .endDate(criteria.getEndDate())
+                .category(criteria.getCategory())
+                .transmission(criteria.getTransmission())
+                .fuelType(criteria.getFuelType())
+                .minSeats(criteria.getMinSeats())
+                .minPrice(criteria.getMinPrice())
+                .maxPrice(criteria.getMaxPrice())
+                .statuses(criteria.getStatuses() == null || criteria.getStatuses().isEmpty()
+                        ? EnumSet.of(VehicleStatus.AVAILABLE)
+                        : criteria.getStatuses())
+                .blockingStatuses(BookingAvailabilityIndex.BLOCKING_STATUSES)
+                .build();
 
         return vehicleRepository.search(effective, pageable)
                 .map(VehicleMapper::toResponse);
@@ -115,18 +104,59 @@ public class VehicleServiceImpl implements VehicleService {
         return vehicleRepository.findAll(pageable).map(VehicleMapper::toResponse);
     }
 
+    @Override
+    public VehicleAvailabilityResponse getAvailabilityCalendar(final String vehicleId, final int months) {
+        requireVehicle(vehicleId);
+        int span = Math.min(Math.max(months, 1), MAX_CALENDAR_MONTHS);
+        LocalDate startDate = LocalDate.now();
+        LocalDate endDate = startDate.plusMonths(span);
+        BitSet busyDays = availabilityIndex.findBusyDays(vehicleId, startDate, endDate);
+
+        List<AvailabilityRangeResponse> busyRanges = new ArrayList<>();
+        for (int from = busyDays.nextSetBit(0); from >= 0; from = busyDays.nextSetBit(from)) {
+            int to = busyDays.nextClearBit(from);
+            busyRanges.add(AvailabilityRangeResponse.builder()
+                    .startDate(startDate.plusDays(from))
+                    .endDate(startDate.plusDays(to - 1))
+                    .build());
+            from = to;
+        }
+
+        return VehicleAvailabilityResponse.builder()
+                .vehicleId(vehicleId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .busyRanges(busyRanges)
+                .build();
+    }
+
+    @Override
+    public void rebuildAvailability() {
+        availabilityIndex.rebuild();
+    }
+
+    /**
+     * The calendar is read on every date picker change. A vehicle the availability index or the vehicles cache
+     * already knows is not looked up again; a miss reads Mongo once and caches the vehicle for the next call.
+     */
+    private void requireVehicle(final String vehicleId) {
+        if (availabilityIndex.knowsVehicle(vehicleId)) {
+            return;
+        }
+        Cache vehicles = cacheManager.getCache(VEHICLES_CACHE);
+        if (vehicles != null && vehicles.get(vehicleId) != null) {
+            return;
+        }
+        Vehicle vehicle = vehicleRepository.findById(vehicleId)
+                .orElseThrow(() -> new EntityNotFoundException("Vehicle not found"));
+        if (vehicles != null) {
+            vehicles.put(vehicleId, VehicleMapper.toResponse(vehicle));
+        }
+    }
+
     private void validateDateRange(final LocalDate startDate, final LocalDate endDate) {
         if (startDate == null || endDate == null || !startDate.isBefore(endDate)) {
             throw new BusinessException(ErrorCode.INVALID_DATE_RANGE);
         }
     }
-
-    private Set<String> getReservedVehicleIds(final LocalDate startDate, final LocalDate endDate) {
-        List<BookingStatus> activeStatuses = List.of(BookingStatus.CONFIRMED, BookingStatus.ACTIVE);
-        return bookingRepository
-                .findByOverlappingDates(startDate, endDate, activeStatuses)
-                .stream()
-                .map(booking -> booking.getVehicleId())
-                .collect(Collectors.toSet());
-    }
 }
@@ -0,0 +1,151 @@
+package brama.pressing_api.booking;
+
+import brama.pressing_api.booking.domain.model.Booking;
+import brama.pressing_api.booking.domain.model.BookingCreatedBy;
+import brama.pressing_api.booking.domain.model.BookingPaymentStatus;
+import brama.pressing_api.booking.domain.model.BookingPricing;
+import brama.pressing_api.booking.domain.model.BookingStatus;
+import brama.pressing_api.booking.repo.BookingRepository;
+import brama.pressing_api.booking.service.BookingAvailabilityIndex;
+import brama.pressing_api.booking.service.BookingService;
+import brama.pressing_api.booking.service.BookingStatsService;
+import brama.pressing_api.booking.service.VehicleReservationService;
+import brama.pressing_api.booking.service.impl.BookingServiceImpl;
+import brama.pressing_api.config.PricingProperties;
+import brama.pressing_api.pricing.service.PricingEngine;
+import brama.pressing_api.promotion.service.PromotionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import({BookingServiceImpl.class, BookingAvailabilityIndex.class, VehicleReservationService.class,
+        PricingProperties.class})
+class BookingExportTest {
+    private static final String HEADER =
+            "id,customerName,customerEmail,customerPhone,vehicleName,startDate,endDate,status,paymentStatus,total,"
+                    + "paidAmount,createdBy,createdDate";
+    private static final LocalDateTime CREATED = LocalDateTime.of(2030, 1, 15, 10, 30);
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @MockitoBean
+    private PricingEngine pricingEngine;
+
+    @MockitoBean
+    private PromotionService promotionService;
+
+    @MockitoBean
+    private BookingStatsService statsService;
+
+    private BookingAdminController controller;
+    private Booking quoted;
+    private Booking plain;
+
+    @BeforeEach
+    void seed() {
+        bookingRepository.deleteAll();
+        controller = new BookingAdminController(bookingService);
+        quoted = bookingRepository.save(booking("Diop, \"Ada\"", BookingStatus.CONFIRMED, "250.00", "100.00"));
+        plain = bookingRepository.save(booking("Sall", BookingStatus.CONFIRMED, "80.00", "0"));
+        bookingRepository.save(booking("Fall", BookingStatus.CANCELED, "60.00", "0"));
+    }
+
+    @Test
+    void streamsTheFilteredBookingsAsCsv() throws IOException {
+        ResponseEntity<StreamingResponseBody> response =
+                controller.exportCsv(null, BookingStatus.CONFIRMED, null, null, null, false);
+
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).endsWith("bookings.csv");
+        assertThat(response.getHeaders().getContentType()).hasToString("text/csv");
+        List<String> lines = write(response.getBody()).lines().toList();
+        assertThat(lines.get(0)).isEqualTo(HEADER);
+        assertThat(lines.subList(1, lines.size())).containsExactlyInAnyOrder(
+                quoted.getId() + ",\"Diop, \"\"Ada\"\"\",\"ada@example.com\",\"+221 77 000 00 00\",\"Corolla\","
+                        + "2030-02-01,2030-02-03,CONFIRMED,PARTIAL,250.00,100.00,ADMIN,2030-01-15T10:30",
+                plain.getId() + ",\"Sall\",\"ada@example.com\",\"+221 77 000 00 00\",\"Corolla\","
+                        + "2030-02-01,2030-02-03,CONFIRMED,PARTIAL,80.00,0,ADMIN,2030-01-15T10:30");
+    }
+
+    @Test
+    void gzipExportDecompressesToTheSameCsv() throws IOException {
+        String csv = write(controller.exportCsv(null, BookingStatus.CONFIRMED, null, null, null, false).getBody());
+
+        ResponseEntity<StreamingResponseBody> response =
+                controller.exportCsv(null, BookingStatus.CONFIRMED, null, null, null, true);
+
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).endsWith("bookings.csv.gz");
+        assertThat(response.getHeaders().getContentType()).hasToString("application/gzip");
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        response.getBody().writeTo(compressed);
+        try (GZIPInputStream gunzip = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertThat(new String(gunzip.readAllBytes(), StandardCharsets.UTF_8).lines())
+                    .containsExactlyInAnyOrderElementsOf(csv.lines().toList());
+        }
+    }
+
+    @Test
+    void exportWithNoMatchIsJustTheHeader() throws IOException {
+        String csv = write(controller.exportCsv(null, BookingStatus.ACTIVE, null, null, null, false).getBody());
+
+        assertThat(csv).isEqualTo(HEADER + "\n");
+    }
+
+    private static String write(final StreamingResponseBody body) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        body.writeTo(output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Booking booking(final String customerName,
+                                   final BookingStatus status,
+                                   final String total,
+                                   final String paid) {
+        return Booking.builder()
+                .customerName(customerName)
+                .customerEmail("ada@example.com")
+                .customerPhone("+221 77 000 00 00")
+                .vehicleId("vehicle-1")
+                .vehicleName("Corolla")
+                .startDate(LocalDate.of(2030, 2, 1))
+                .endDate(LocalDate.of(2030, 2, 3))
+                .status(status)
+                .paymentStatus(BookingPaymentStatus.PARTIAL)
+                .bookingCreatedBy(BookingCreatedBy.ADMIN)
+                .pricing(BookingPricing.builder().total(new BigDecimal(total)).build())
+                .paidAmount(new BigDecimal(paid))
+                .createdDate(CREATED)
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package brama.pressing_api.booking.repo;
+
+import brama.pressing_api.booking.domain.model.Booking;
+import brama.pressing_api.booking.domain.model.BookingPaymentStatus;
+import brama.pressing_api.booking.domain.model.BookingPricing;
+import brama.pressing_api.booking.domain.model.BookingStats;
+import brama.pressing_api.booking.domain.model.BookingStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+class BookingRepositoryStatsTest {
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @BeforeEach
+    void clear() {
+        bookingRepository.deleteAll();
+    }
+
+    @Test
+    void foldsEveryStatusAndPaymentGroupIntoTheCounters() {
+        bookingRepository.saveAll(List.of(
+                booking(BookingStatus.PENDING, BookingPaymentStatus.UNPAID, null, "100.00"),
+                booking(BookingStatus.PENDING, BookingPaymentStatus.UNPAID, null, "50.10"),
+                booking(BookingStatus.CONFIRMED, BookingPaymentStatus.PARTIAL, "40.25", "100.00"),
+                booking(BookingStatus.ACTIVE, BookingPaymentStatus.PAID, "80.00", "80.00"),
+                booking(BookingStatus.COMPLETED, BookingPaymentStatus.PAID, "120.00", "120.00"),
+                booking(BookingStatus.CANCELED, BookingPaymentStatus.REFUNDED, "0", "60.00")));
+
+        BookingStats stats = bookingRepository.aggregateStats();
+
+        assertThat(stats.getPendingCount()).isEqualTo(2);
+        assertThat(stats.getConfirmedCount()).isEqualTo(1);
+        assertThat(stats.getActiveCount()).isEqualTo(1);
+        assertThat(stats.getCompletedCount()).isEqualTo(1);
+        assertThat(stats.getCanceledCount()).isEqualTo(1);
+        assertThat(stats.getUnpaidCount()).isEqualTo(2);
+        assertThat(stats.getPartialCount()).isEqualTo(1);
+        assertThat(stats.getPaidCount()).isEqualTo(2);
+        assertThat(stats.getRefundedCount()).isEqualTo(1);
+        assertThat(stats.getCollectedAmount()).isEqualByComparingTo("240.25");
+        // 100.00 + 50.10 + (100.00 - 40.25) + 60.00 still owed; paid bookings owe nothing.
+        assertThat(stats.getPendingAmount()).isEqualByComparingTo("269.85");
+    }
+
+    @Test
+    void overpaidAndUnpricedBookingsNeverMakeThePendingAmountNegative() {
+        bookingRepository.saveAll(List.of(
+                booking(BookingStatus.CONFIRMED, BookingPaymentStatus.PAID, "150.00", "100.00"),
+                booking(BookingStatus.PENDING, BookingPaymentStatus.UNPAID, null, null)));
+
+        BookingStats stats = bookingRepository.aggregateStats();
+
+        assertThat(stats.getCollectedAmount()).isEqualByComparingTo("150.00");
+        assertThat(stats.getPendingAmount()).isEqualByComparingTo("0");
+        assertThat(stats.getConfirmedCount()).isEqualTo(1);
+        assertThat(stats.getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void emptyCollectionFoldsToZero() {
+        BookingStats stats = bookingRepository.aggregateStats();
+
+        assertThat(stats.getPendingCount()).isZero();
+        assertThat(stats.getPaidCount()).isZero();
+        assertThat(stats.getCollectedAmount()).isEqualByComparingTo("0");
+        assertThat(stats.getPendingAmount()).isEqualByComparingTo("0");
+    }
+
+    private static Booking booking(final BookingStatus status,
+                                   final BookingPaymentStatus paymentStatus,
+                                   final String paid,
+                                   final String total) {
+        return Booking.builder()
+                .vehicleId("vehicle-1")
+                .status(status)
+                .paymentStatus(paymentStatus)
+                .paidAmount(paid == null ? null : new BigDecimal(paid))
+                .pricing(total == null ? null : BookingPricing.builder().total(new BigDecimal(total)).build())
+                .build();
+    }
+}
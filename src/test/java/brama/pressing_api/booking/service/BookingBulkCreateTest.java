@@ -0,0 +1,171 @@
+package brama.pressing_api.booking.service;
+
+import brama.pressing_api.booking.domain.model.BookingPricing;
+import brama.pressing_api.booking.dto.request.AdminCreateBookingRequest;
+import brama.pressing_api.booking.dto.response.BulkBookingItemResponse;
+import brama.pressing_api.booking.dto.response.BulkCreateBookingResponse;
+import brama.pressing_api.booking.repo.BookingRepository;
+import brama.pressing_api.booking.repo.VehicleDayClaimRepository;
+import brama.pressing_api.booking.service.impl.BookingServiceImpl;
+import brama.pressing_api.config.MongoIndexInitializer;
+import brama.pressing_api.config.PricingProperties;
+import brama.pressing_api.exception.BusinessException;
+import brama.pressing_api.exception.ErrorCode;
+import brama.pressing_api.payment.domain.model.PaymentMethod;
+import brama.pressing_api.payment.repo.PaymentRepository;
+import brama.pressing_api.pricing.service.PricingEngine;
+import brama.pressing_api.promotion.service.PromotionService;
+import brama.pressing_api.user.User;
+import brama.pressing_api.user.UserRepository;
+import brama.pressing_api.vehicle.domain.model.Vehicle;
+import brama.pressing_api.vehicle.domain.model.VehicleStatus;
+import brama.pressing_api.vehicle.repo.VehicleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import({BookingServiceImpl.class, BookingAvailabilityIndex.class, VehicleReservationService.class,
+        MongoIndexInitializer.class, PricingProperties.class})
+class BookingBulkCreateTest {
+    private static final LocalDate START = LocalDate.of(2030, 3, 1);
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private VehicleDayClaimRepository claimRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @MockitoBean
+    private PricingEngine pricingEngine;
+
+    @MockitoBean
+    private PromotionService promotionService;
+
+    @MockitoBean
+    private BookingStatsService statsService;
+
+    private String customerId;
+    private String vehicleId;
+    private String otherVehicleId;
+
+    @BeforeEach
+    void seed() {
+        bookingRepository.deleteAll();
+        claimRepository.deleteAll();
+        paymentRepository.deleteAll();
+        userRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        customerId = userRepository.save(User.builder().firstName("Ada").lastName("Diop").email("ada@example.com")
+                .build()).getId();
+        vehicleId = vehicleRepository.save(vehicle("Corolla")).getId();
+        otherVehicleId = vehicleRepository.save(vehicle("Yaris")).getId();
+        when(pricingEngine.quote(any(), any())).thenReturn(BookingPricing.builder()
+                .total(new BigDecimal("300.00"))
+                .currency("USD")
+                .build());
+    }
+
+    @Test
+    void secondEntryForTheSameVehicleDaysFailsWhileTheFirstIsCreated() {
+        BulkCreateBookingResponse response = bookingService.createAdminBulk(List.of(
+                request(vehicleId, START, START.plusDays(3)),
+                request(vehicleId, START.plusDays(2), START.plusDays(5)),
+                request(otherVehicleId, START.plusDays(2), START.plusDays(5))), "admin-1");
+
+        assertThat(response.getCreatedCount()).isEqualTo(2);
+        assertThat(response.getFailedCount()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(BulkBookingItemResponse::isCreated)
+                .containsExactly(true, false, true);
+        assertThat(response.getResults().get(1).getErrorCode())
+                .isEqualTo(ErrorCode.VEHICLE_NOT_AVAILABLE.getCode());
+        assertThat(bookingRepository.count()).isEqualTo(2);
+        assertThat(claimRepository.count()).isEqualTo(8);
+    }
+
+    @Test
+    void eachEntryReportsItsOwnFailure() {
+        AdminCreateBookingRequest unknownCustomer = request(vehicleId, START, START.plusDays(1));
+        unknownCustomer.setCustomerId("missing");
+        AdminCreateBookingRequest expiredPromo = request(otherVehicleId, START, START.plusDays(1));
+        expiredPromo.setPromoCode("EXPIRED");
+        when(promotionService.redeem(eq("EXPIRED"))).thenThrow(new BusinessException(ErrorCode.PROMO_CODE_INVALID));
+        AdminCreateBookingRequest overpaid = request(vehicleId, START.plusDays(10), START.plusDays(12));
+        overpaid.setInitialPayment(new BigDecimal("500.00"));
+        overpaid.setPaymentMethod(PaymentMethod.CASH);
+        AdminCreateBookingRequest paid = request(otherVehicleId, START.plusDays(10), START.plusDays(12));
+        paid.setInitialPayment(new BigDecimal("100.00"));
+        paid.setPaymentMethod(PaymentMethod.CASH);
+
+        BulkCreateBookingResponse response = bookingService.createAdminBulk(
+                List.of(unknownCustomer, expiredPromo, overpaid, paid), "admin-1");
+
+        List<BulkBookingItemResponse> results = response.getResults();
+        assertThat(results).extracting(BulkBookingItemResponse::getIndex).containsExactly(0, 1, 2, 3);
+        assertThat(results).extracting(BulkBookingItemResponse::isCreated).containsExactly(false, false, true, true);
+        assertThat(results).extracting(BulkBookingItemResponse::getErrorCode).containsExactly(
+                ErrorCode.USER_NOT_FOUND.getCode(),
+                ErrorCode.PROMO_CODE_INVALID.getCode(),
+                ErrorCode.PAYMENT_AMOUNT_INVALID.getCode(),
+                null);
+        assertThat(bookingRepository.count()).isEqualTo(2);
+        assertThat(paymentRepository.findAll()).singleElement()
+                .satisfies(payment -> assertThat(payment.getBookingId()).isEqualTo(results.get(3).getBooking().getId()));
+        verify(promotionService, never()).releaseRedemption(any());
+    }
+
+    private AdminCreateBookingRequest request(final String vehicle, final LocalDate startDate, final LocalDate endDate) {
+        return AdminCreateBookingRequest.builder()
+                .customerId(customerId)
+                .vehicleId(vehicle)
+                .pickupLocationId("location-1")
+                .dropoffLocationId("location-1")
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+
+    private static Vehicle vehicle(final String model) {
+        return Vehicle.builder()
+                .make("Toyota")
+                .model(model)
+                .dailyRate(new BigDecimal("100.00"))
+                .status(VehicleStatus.AVAILABLE)
+                .build();
+    }
+}
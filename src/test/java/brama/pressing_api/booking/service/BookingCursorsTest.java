@@ -0,0 +1,45 @@
+package brama.pressing_api.booking.service;
+
+import brama.pressing_api.common.CursorTokens;
+import brama.pressing_api.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookingCursorsTest {
+
+    @Test
+    void myBookingCursorRoundTrips() {
+        MyBookingCursor cursor = new MyBookingCursor(LocalDate.of(2030, 2, 28), "65f0c0ffee");
+
+        assertThat(MyBookingCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(MyBookingCursor.decode(null)).isNull();
+    }
+
+    @Test
+    void myBookingCursorRoundTripsABookingWithoutStartDate() {
+        MyBookingCursor cursor = new MyBookingCursor(null, "65f0c0ffee");
+
+        assertThat(MyBookingCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void bookingPageCursorRoundTrips() {
+        BookingPageCursor cursor = new BookingPageCursor(LocalDateTime.of(2030, 2, 28, 23, 59, 59, 123_000_000), "65f0");
+
+        assertThat(BookingPageCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(BookingPageCursor.decode("")).isNull();
+    }
+
+    @Test
+    void cursorsRejectSortKeysOfTheWrongType() {
+        assertThatThrownBy(() -> MyBookingCursor.decode(CursorTokens.encode("2030-02-28T10:00", "id")))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> BookingPageCursor.decode(CursorTokens.encode("2030-02-28", "id")))
+                .isInstanceOf(BusinessException.class);
+    }
+}
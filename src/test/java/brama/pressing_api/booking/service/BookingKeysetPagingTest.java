@@ -0,0 +1,129 @@
+package brama.pressing_api.booking.service;
+
+import brama.pressing_api.booking.domain.model.Booking;
+import brama.pressing_api.booking.domain.model.BookingPaymentStatus;
+import brama.pressing_api.booking.domain.model.BookingStatus;
+import brama.pressing_api.booking.dto.response.BookingResponse;
+import brama.pressing_api.booking.repo.BookingRepository;
+import brama.pressing_api.booking.service.impl.BookingServiceImpl;
+import brama.pressing_api.common.CursorPageResponse;
+import brama.pressing_api.config.PricingProperties;
+import brama.pressing_api.pricing.service.PricingEngine;
+import brama.pressing_api.promotion.service.PromotionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import({BookingServiceImpl.class, BookingAvailabilityIndex.class, VehicleReservationService.class,
+        PricingProperties.class})
+class BookingKeysetPagingTest {
+    private static final LocalDateTime SAME_INSTANT = LocalDateTime.of(2030, 1, 15, 10, 30, 0, 123_000_000);
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @MockitoBean
+    private PricingEngine pricingEngine;
+
+    @MockitoBean
+    private PromotionService promotionService;
+
+    @MockitoBean
+    private BookingStatsService statsService;
+
+    private final List<Booking> bookings = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        bookingRepository.deleteAll();
+        bookings.clear();
+        bookings.add(bookingRepository.save(booking(SAME_INSTANT.plusMinutes(1), BookingStatus.PENDING)));
+        for (int i = 0; i < 5; i++) {
+            bookings.add(bookingRepository.save(booking(SAME_INSTANT, i % 2 == 0
+                    ? BookingStatus.PENDING
+                    : BookingStatus.CONFIRMED)));
+        }
+        bookings.add(bookingRepository.save(booking(SAME_INSTANT.minusMinutes(1), BookingStatus.PENDING)));
+    }
+
+    @Test
+    void pagesThroughEqualCreatedDatesWithoutSkippingOrRepeating() {
+        List<String> expected = bookings.stream()
+                .sorted(Comparator.comparing(Booking::getCreatedDate).thenComparing(Booking::getId).reversed())
+                .map(Booking::getId)
+                .toList();
+
+        assertThat(walk(BookingSearchCriteria.builder().build(), 2)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void filteredPagesKeepTheFilterAcrossTheTie() {
+        List<String> expected = bookings.stream()
+                .filter(booking -> booking.getStatus() == BookingStatus.PENDING)
+                .sorted(Comparator.comparing(Booking::getCreatedDate).thenComparing(Booking::getId).reversed())
+                .map(Booking::getId)
+                .toList();
+
+        assertThat(walk(BookingSearchCriteria.builder().status(BookingStatus.PENDING).build(), 1))
+                .containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void lastPageHasNoCursorAndTheTotalIsCountedOnRequest() {
+        CursorPageResponse<BookingResponse> page = bookingService.searchAdminAfter(
+                BookingSearchCriteria.builder().status(BookingStatus.CONFIRMED).build(), null, 5, true);
+
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.isTotalEstimated()).isFalse();
+    }
+
+    private List<String> walk(final BookingSearchCriteria criteria, final int size) {
+        List<String> seen = new ArrayList<>();
+        String after = null;
+        do {
+            CursorPageResponse<BookingResponse> page = bookingService.searchAdminAfter(criteria, after, size, false);
+            assertThat(page.getContent()).hasSizeLessThanOrEqualTo(size);
+            page.getContent().forEach(booking -> seen.add(booking.getId()));
+            after = page.getNextCursor();
+        } while (after != null);
+        return seen;
+    }
+
+    private static Booking booking(final LocalDateTime createdDate, final BookingStatus status) {
+        return Booking.builder()
+                .vehicleId("vehicle-1")
+                .startDate(LocalDate.of(2030, 2, 1))
+                .endDate(LocalDate.of(2030, 2, 3))
+                .status(status)
+                .paymentStatus(BookingPaymentStatus.UNPAID)
+                .createdDate(createdDate)
+                .build();
+    }
+}
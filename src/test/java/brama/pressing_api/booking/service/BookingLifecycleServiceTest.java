@@ -0,0 +1,143 @@
+package brama.pressing_api.booking.service;
+
+import brama.pressing_api.booking.domain.model.Booking;
+import brama.pressing_api.booking.domain.model.BookingCreatedBy;
+import brama.pressing_api.booking.domain.model.BookingPaymentStatus;
+import brama.pressing_api.booking.domain.model.BookingStatus;
+import brama.pressing_api.booking.repo.BookingRepository;
+import brama.pressing_api.booking.repo.BookingRepositoryImpl;
+import brama.pressing_api.payment.domain.model.Payment;
+import brama.pressing_api.payment.domain.model.PaymentStatus;
+import brama.pressing_api.payment.repo.PaymentRepository;
+import brama.pressing_api.promotion.service.PromotionService;
+import brama.pressing_api.scheduling.service.SchedulerLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import({BookingLifecycleService.class, SchedulerLockService.class})
+class BookingLifecycleServiceTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private BookingLifecycleService lifecycleService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @MockitoBean
+    private PromotionService promotionService;
+
+    @BeforeEach
+    void reset() {
+        bookingRepository.deleteAll();
+        paymentRepository.deleteAll();
+    }
+
+    @Test
+    void expiryCancelsStaleBookingsAndReleasesTheirPromotion() {
+        Booking stale = bookingRepository.save(pending(NOW.minusHours(3), "promotion-1"));
+
+        lifecycleService.advance(NOW.toLocalDate(), NOW);
+
+        assertThat(bookingRepository.findById(stale.getId()).orElseThrow().getStatus())
+                .isEqualTo(BookingStatus.CANCELED);
+        verify(promotionService).releaseRedemption("promotion-1");
+    }
+
+    @Test
+    void expiryKeepsBookingsWithARecentPendingPayment() {
+        Booking paying = bookingRepository.save(pending(NOW.minusHours(3), "promotion-1"));
+        paymentRepository.save(Payment.builder()
+                .bookingId(paying.getId())
+                .status(PaymentStatus.PENDING)
+                .createdDate(NOW.minusMinutes(10))
+                .build());
+
+        lifecycleService.advance(NOW.toLocalDate(), NOW);
+
+        assertThat(bookingRepository.findById(paying.getId()).orElseThrow().getStatus())
+                .isEqualTo(BookingStatus.PENDING);
+        verify(promotionService, never()).releaseRedemption(any());
+    }
+
+    @Test
+    void transitionReportsOnlyTheBookingsItMoved() {
+        Booking first = bookingRepository.save(pending(NOW.minusHours(3), null));
+        Booking second = bookingRepository.save(pending(NOW.minusHours(3), null));
+        MongoTemplate racing = spy(mongoTemplate);
+        doAnswer(invocation -> {
+            // A customer cancels the second booking between the candidate read and the bulk update.
+            mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(second.getId())),
+                    new Update().set("status", BookingStatus.CANCELED), Booking.class);
+            return invocation.callRealMethod();
+        }).when(racing).updateMulti(any(Query.class), any(UpdateDefinition.class), eq(Booking.class));
+
+        List<String> moved = new BookingRepositoryImpl(racing).transitionStatus(
+                BookingStatus.PENDING, BookingStatus.CANCELED, new Criteria(), 10);
+
+        assertThat(moved).containsExactly(first.getId());
+    }
+
+    @Test
+    void guardedUpdateSkipsABookingWhoseStatusChanged() {
+        Booking booking = bookingRepository.save(pending(NOW, null));
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(booking.getId())),
+                new Update().set("status", BookingStatus.CANCELED), Booking.class);
+
+        assertThat(bookingRepository.updateIfStatus(booking.getId(), BookingStatus.PENDING,
+                new Update().set("status", BookingStatus.CONFIRMED))).isEmpty();
+        assertThat(bookingRepository.findById(booking.getId()).orElseThrow().getStatus())
+                .isEqualTo(BookingStatus.CANCELED);
+    }
+
+    private static Booking pending(final LocalDateTime createdDate, final String promotionId) {
+        return Booking.builder()
+                .vehicleId("vehicle-1")
+                .startDate(LocalDate.of(2030, 2, 1))
+                .endDate(LocalDate.of(2030, 2, 3))
+                .status(BookingStatus.PENDING)
+                .paymentStatus(BookingPaymentStatus.UNPAID)
+                .bookingCreatedBy(BookingCreatedBy.CLIENT)
+                .promoCode(promotionId == null ? null : "SPRING")
+                .promotionId(promotionId)
+                .createdDate(createdDate)
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package brama.pressing_api.booking.service;
+
+import brama.pressing_api.booking.domain.model.Booking;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingSearchTokensTest {
+
+    @Test
+    void shortQueryStartingWithPunctuationUsesItsFirstWord() {
+        Booking booking = Booking.builder().customerPhone("+221 77 000 00 00").build();
+
+        assertThat(BookingSearchTokens.forQuery("+2")).containsExactly("^2");
+        assertThat(BookingSearchTokens.forBooking(booking)).containsAll(BookingSearchTokens.forQuery("+2"));
+    }
+
+    @Test
+    void queryWithoutLettersOrDigitsHasNoTokens() {
+        assertThat(BookingSearchTokens.forQuery("+")).isEmpty();
+        assertThat(BookingSearchTokens.forQuery(" @. ")).isEmpty();
+    }
+
+    @Test
+    void onlyTheStartOfLongNotesIsIndexed() {
+        String notes = "a".repeat(BookingSearchTokens.NOTES_INDEXED_LENGTH) + "xyz";
+
+        Set<String> tokens = BookingSearchTokens.forBooking(Booking.builder().notes(notes).build());
+
+        assertThat(tokens).contains("aaa").doesNotContain("xyz", "aax");
+    }
+}
@@ -0,0 +1,91 @@
+package brama.pressing_api.booking.service;
+
+import brama.pressing_api.booking.domain.model.Booking;
+import brama.pressing_api.booking.domain.model.BookingPaymentStatus;
+import brama.pressing_api.booking.domain.model.BookingStats;
+import brama.pressing_api.booking.domain.model.BookingStatus;
+import brama.pressing_api.booking.repo.BookingRepository;
+import brama.pressing_api.booking.repo.BookingStatsRepository;
+import brama.pressing_api.scheduling.service.SchedulerLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import({BookingStatsService.class, SchedulerLockService.class})
+class BookingStatsServiceReconcileTest {
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private BookingStatsService statsService;
+
+    @Autowired
+    private BookingStatsRepository statsRepository;
+
+    @MockitoSpyBean
+    private BookingRepository bookingRepository;
+
+    @BeforeEach
+    void reset() {
+        doCallRealMethod().when(bookingRepository).aggregateStats();
+        bookingRepository.deleteAll();
+        statsRepository.deleteAll();
+        statsService.reconcile();
+    }
+
+    @Test
+    void reconcileDoesNotOverwriteIncrementsAppliedWhileItCounts() {
+        bookingRepository.saveAll(List.of(pending(), pending(), pending()));
+        doAnswer(invocation -> {
+            // A bulk transition lands between the revision read and the recount.
+            statsService.onStatusTransition(new BookingStatusTransitionEvent(
+                    BookingStatus.PENDING, BookingStatus.CANCELED, List.of("moved")));
+            return invocation.callRealMethod();
+        }).when(bookingRepository).aggregateStats();
+
+        statsService.reconcile();
+
+        BookingStats stored = statsRepository.findById(BookingStats.GLOBAL_ID).orElseThrow();
+        assertThat(stored.getPendingCount()).isEqualTo(-1);
+        assertThat(stored.getCanceledCount()).isEqualTo(1);
+    }
+
+    @Test
+    void reconcileCorrectsDriftWhenNothingChangedMeanwhile() {
+        bookingRepository.saveAll(List.of(pending(), pending(), pending()));
+
+        BookingStats result = statsService.reconcile();
+
+        BookingStats stored = statsRepository.findById(BookingStats.GLOBAL_ID).orElseThrow();
+        assertThat(stored.getPendingCount()).isEqualTo(3);
+        assertThat(stored.getUnpaidCount()).isEqualTo(3);
+        assertThat(stored.getRevision()).isEqualTo(result.getRevision());
+    }
+
+    private static Booking pending() {
+        return Booking.builder()
+                .vehicleId("vehicle-1")
+                .startDate(LocalDate.of(2030, 1, 1))
+                .endDate(LocalDate.of(2030, 1, 3))
+                .status(BookingStatus.PENDING)
+                .paymentStatus(BookingPaymentStatus.UNPAID)
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package brama.pressing_api.booking.service;
+
+import brama.pressing_api.booking.domain.model.VehicleDayClaim;
+import brama.pressing_api.booking.repo.VehicleDayClaimRepository;
+import brama.pressing_api.config.MongoIndexInitializer;
+import brama.pressing_api.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import({VehicleReservationService.class, MongoIndexInitializer.class})
+class VehicleReservationServiceConcurrencyTest {
+    private static final String VEHICLE_ID = "vehicle-1";
+    private static final LocalDate FIRST_DAY = LocalDate.of(2030, 1, 1);
+    private static final int STAY_DAYS = 4;
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private VehicleReservationService reservationService;
+
+    @Autowired
+    private VehicleDayClaimRepository claimRepository;
+
+    @BeforeEach
+    void clearClaims() {
+        claimRepository.deleteAll();
+    }
+
+    @Test
+    void overlappingReservationsRacingForTheSameVehicleNeverShareADay() throws Exception {
+        int attempts = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        Map<String, Future<Boolean>> outcomes = new HashMap<>();
+        Map<String, LocalDate> startDates = new HashMap<>();
+        for (int attempt = 0; attempt < attempts; attempt++) {
+            String bookingId = "booking-" + attempt;
+            LocalDate startDate = FIRST_DAY.plusDays(attempt % 10);
+            startDates.put(bookingId, startDate);
+            outcomes.put(bookingId, executor.submit(() -> {
+                start.await();
+                try {
+                    reservationService.reserve(bookingId, VEHICLE_ID, startDate, startDate.plusDays(STAY_DAYS - 1));
+                    return true;
+                } catch (BusinessException ex) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        List<String> winners = new ArrayList<>();
+        for (Map.Entry<String, Future<Boolean>> outcome : outcomes.entrySet()) {
+            if (outcome.getValue().get(1, TimeUnit.MINUTES)) {
+                winners.add(outcome.getKey());
+            }
+        }
+        executor.shutdown();
+
+        List<VehicleDayClaim> claims = claimRepository.findAll();
+        Map<String, Long> claimsPerBooking = claims.stream()
+                .collect(Collectors.groupingBy(VehicleDayClaim::getBookingId, Collectors.counting()));
+
+        assertThat(winners).isNotEmpty();
+        // Losers roll back their partial claims; every winner holds all of its days.
+        assertThat(claimsPerBooking.keySet()).containsExactlyInAnyOrderElementsOf(winners);
+        assertThat(claimsPerBooking.values()).allMatch(count -> count == STAY_DAYS);
+        assertThat(claims).extracting(VehicleDayClaim::getDay).doesNotHaveDuplicates();
+        for (String winner : winners) {
+            for (String other : winners) {
+                if (!winner.equals(other)) {
+                    LocalDate winnerStart = startDates.get(winner);
+                    LocalDate otherStart = startDates.get(other);
+                    assertThat(Math.abs(winnerStart.toEpochDay() - otherStart.toEpochDay()))
+                            .as("%s and %s overlap", winner, other)
+                            .isGreaterThanOrEqualTo(STAY_DAYS);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package brama.pressing_api.chat.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.MimeTypeUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Two relay instances sharing one Redis, each with its own directory, listener container and local broker channel.
+ */
+@DataRedisTest
+@Testcontainers(disabledWithoutDocker = true)
+class ChatClusterRelayTest {
+    private static final Duration PRESENCE_TTL = Duration.ofSeconds(1);
+    private static final String USER_ID = "user-1";
+    private static final String DESTINATION = "/user/" + USER_ID + "/queue/messages";
+
+    @Container
+    @ServiceConnection(name = "redis")
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7.2").withExposedPorts(6379);
+
+    @Autowired
+    private RedisConnectionFactory connectionFactory;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+    private Instance first;
+    private Instance second;
+
+    @BeforeEach
+    void start() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        first = new Instance();
+        second = new Instance();
+    }
+
+    @AfterEach
+    void stop() {
+        containers.forEach(RedisMessageListenerContainer::stop);
+        containers.clear();
+    }
+
+    @Test
+    void userDestinationReachesTheInstanceHoldingTheSession() throws Exception {
+        second.directory.register(USER_ID);
+
+        first.relay.preSend(message("hello"), first.localChannel);
+
+        Message<?> delivered = second.delivered.poll(5, TimeUnit.SECONDS);
+        assertThat(delivered).isNotNull();
+        assertThat(SimpMessageHeaderAccessor.wrap(delivered).getDestination()).isEqualTo(DESTINATION);
+        assertThat(new String((byte[]) delivered.getPayload(), StandardCharsets.UTF_8)).isEqualTo("hello");
+    }
+
+    @Test
+    void relayedMessageIsNotRelayedAgain() throws Exception {
+        first.directory.register(USER_ID);
+        second.directory.register(USER_ID);
+
+        first.relay.preSend(message("hello"), first.localChannel);
+        Message<?> delivered = second.delivered.poll(5, TimeUnit.SECONDS);
+        assertThat(delivered).isNotNull();
+        // The receiving broker channel runs the same interceptor; the relayed copy must stop there.
+        second.relay.preSend(delivered, second.localChannel);
+
+        assertThat(first.delivered.poll(1, TimeUnit.SECONDS)).isNull();
+        assertThat(second.delivered.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void presenceClaimExpiresOnceHeartbeatsStop() throws Exception {
+        second.directory.register(USER_ID);
+        for (int beat = 0; beat < 3; beat++) {
+            Thread.sleep(PRESENCE_TTL.toMillis() / 2);
+            second.directory.heartbeat(List.of(USER_ID));
+        }
+        assertThat(first.directory.isOnlineElsewhere(USER_ID)).isTrue();
+        assertThat(first.directory.findOnlineElsewhere(List.of(USER_ID))).containsExactly(USER_ID);
+
+        assertThat(await(() -> !first.directory.isOnlineElsewhere(USER_ID), PRESENCE_TTL.multipliedBy(3))).isTrue();
+        assertThat(first.directory.findOnlineElsewhere(List.of(USER_ID))).isEmpty();
+        assertThat(first.directory.findRemoteInstances(USER_ID)).isEmpty();
+    }
+
+    private static Message<byte[]> message(final String body) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(DESTINATION);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    private static boolean await(final BooleanSupplier condition, final Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return condition.getAsBoolean();
+    }
+
+    private final class Instance {
+        private final BlockingQueue<Message<?>> delivered = new LinkedBlockingQueue<>();
+        private final MessageChannel localChannel = (message, timeout) -> delivered.add(message);
+        private final RedisChatSessionDirectory directory = new RedisChatSessionDirectory(redisTemplate);
+        private final ChatClusterRelay relay;
+
+        @SuppressWarnings("unchecked")
+        private Instance() {
+            ReflectionTestUtils.setField(directory, "presenceTtl", PRESENCE_TTL);
+            ObjectProvider<SimpMessagingTemplate> messagingTemplate = mock(ObjectProvider.class);
+            when(messagingTemplate.getObject()).thenReturn(new SimpMessagingTemplate(localChannel));
+            relay = new ChatClusterRelay(directory, redisTemplate, new ObjectMapper(), messagingTemplate);
+
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.addMessageListener(relay, List.of(
+                    new ChannelTopic(relay.instanceChannel()),
+                    new ChannelTopic(ChatClusterRelay.BROADCAST_CHANNEL)));
+            container.afterPropertiesSet();
+            container.start();
+            containers.add(container);
+        }
+    }
+}
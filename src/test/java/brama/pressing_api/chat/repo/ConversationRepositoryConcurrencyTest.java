@@ -0,0 +1,106 @@
+package brama.pressing_api.chat.repo;
+
+import brama.pressing_api.chat.domain.ChatMessageStatus;
+import brama.pressing_api.chat.domain.Conversation;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+class ConversationRepositoryConcurrencyTest {
+    private static final LocalDateTime START = LocalDateTime.of(2030, 6, 1, 9, 0);
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private ConversationRepository conversationRepository;
+
+    @BeforeEach
+    void clear() {
+        conversationRepository.deleteAll();
+    }
+
+    @Test
+    void parallelSendsCountEveryMessageAndKeepTheNewestSummary() throws Exception {
+        Conversation conversation = conversationRepository.save(conversation());
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            order.add(i);
+        }
+        Collections.shuffle(order);
+        Map<Integer, String> messageIds = new HashMap<>();
+        order.forEach(i -> messageIds.put(i, new ObjectId().toHexString()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> sends = new ArrayList<>();
+        for (int i : order) {
+            sends.add(executor.submit(() -> {
+                start.await();
+                conversationRepository.recordMessage(conversation.getId(), messageIds.get(i), "sender",
+                        "recipient", "$" + i, START.plusSeconds(i));
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> send : sends) {
+            send.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        Conversation stored = conversationRepository.findById(conversation.getId()).orElseThrow();
+        assertThat(stored.getUnreadCounts()).containsEntry("recipient", 200);
+        assertThat(stored.getLastMessageId()).isEqualTo(messageIds.get(199));
+        assertThat(stored.getLastMessagePreview()).isEqualTo("$199");
+        assertThat(stored.getLastMessageAt()).isEqualTo(START.plusSeconds(199));
+    }
+
+    @Test
+    void readReceiptNeverTakesTheUnreadCountBelowZero() {
+        Conversation conversation = conversationRepository.save(conversation());
+        String older = new ObjectId().toHexString();
+        conversationRepository.recordMessage(conversation.getId(), older, "sender", "recipient", "one", START);
+        conversationRepository.recordMessage(conversation.getId(), new ObjectId().toHexString(), "sender",
+                "recipient", "two", START.plusSeconds(1));
+        conversationRepository.advanceReceiptMarker(conversation.getId(), "recipient", ChatMessageStatus.READ,
+                new ObjectId().toHexString(), 2, START.plusSeconds(2));
+
+        // A late receipt for an older message subtracts what was already cleared.
+        conversationRepository.advanceReceiptMarker(conversation.getId(), "recipient", ChatMessageStatus.READ,
+                older, 1, START.plusSeconds(3));
+
+        Conversation stored = conversationRepository.findById(conversation.getId()).orElseThrow();
+        assertThat(stored.getUnreadCounts()).containsEntry("recipient", 0);
+        assertThat(stored.getReceiptMarkers().get("recipient").getLastReadAt()).isEqualTo(START.plusSeconds(3));
+    }
+
+    private static Conversation conversation() {
+        return Conversation.builder()
+                .participantIds(List.of("sender", "recipient"))
+                .unreadCounts(new HashMap<>())
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package brama.pressing_api.chat.service;
+
+import brama.pressing_api.chat.domain.Conversation;
+import brama.pressing_api.chat.dto.response.ChatConversationResponse;
+import brama.pressing_api.chat.notification.PushNotificationService;
+import brama.pressing_api.chat.repo.ConversationRepository;
+import brama.pressing_api.chat.service.impl.ChatServiceImpl;
+import brama.pressing_api.common.CursorPageResponse;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import({ChatServiceImpl.class, ConversationInboxCache.class})
+class ChatInboxPagingTest {
+    private static final String USER_ID = "user-1";
+    private static final LocalDateTime START = LocalDateTime.of(2030, 6, 1, 9, 0);
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private ConversationInboxCache inboxCache;
+
+    @MockitoSpyBean
+    private ConversationRepository conversationRepository;
+
+    @MockitoBean
+    private UserPresenceService presenceService;
+
+    @MockitoBean
+    private PushNotificationService pushNotificationService;
+
+    @MockitoBean
+    private SimpMessagingTemplate messagingTemplate;
+
+    private final List<Conversation> conversations = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        conversationRepository.deleteAll();
+        inboxCache.invalidate(USER_ID);
+        conversations.clear();
+        for (int i = 0; i < 5; i++) {
+            conversations.add(conversationRepository.save(Conversation.builder()
+                    .participantIds(List.of(USER_ID, "other-" + i))
+                    .lastMessageAt(START.plusMinutes(i))
+                    .unreadCounts(new HashMap<>())
+                    .build()));
+        }
+    }
+
+    @Test
+    void pagesNeitherOverlapNorSkipAfterActivityOnAnotherInstance() {
+        assertThat(ids(chatService.listInbox(USER_ID, null, 2))).containsExactly(id(4), id(3));
+        // Another instance records a message; this instance's cached order still has conversation 3 second.
+        conversationRepository.recordMessage(id(3), new ObjectId().toHexString(), "other-3", USER_ID, "hi",
+                START.plusMinutes(10));
+
+        List<String> seen = new ArrayList<>();
+        String after = null;
+        do {
+            CursorPageResponse<ChatConversationResponse> page = chatService.listInbox(USER_ID, after, 2);
+            seen.addAll(ids(page));
+            after = page.getNextCursor();
+        } while (after != null);
+
+        assertThat(seen).containsExactly(id(3), id(4), id(2), id(1), id(0));
+    }
+
+    @Test
+    void activityThroughThisInstanceKeepsServingTheFirstPageFromTheCache() {
+        chatService.listInbox(USER_ID, null, 2);
+        LocalDateTime sentAt = START.plusMinutes(10).plusNanos(123_456_789);
+        conversationRepository.recordMessage(id(0), new ObjectId().toHexString(), USER_ID, "other-0", "hi", sentAt);
+        Conversation sent = conversations.get(0);
+        sent.setLastMessageAt(sentAt);
+        inboxCache.recordActivity(sent);
+        clearInvocations(conversationRepository);
+
+        assertThat(ids(chatService.listInbox(USER_ID, null, 2))).containsExactly(id(0), id(4));
+        verify(conversationRepository, never()).findInboxAfter(eq(USER_ID), any(), any(), anyInt());
+    }
+
+    private String id(final int index) {
+        return conversations.get(index).getId();
+    }
+
+    private static List<String> ids(final CursorPageResponse<ChatConversationResponse> page) {
+        return page.getContent().stream().map(ChatConversationResponse::getId).toList();
+    }
+}
@@ -0,0 +1,173 @@
+package brama.pressing_api.chat.service;
+
+import brama.pressing_api.chat.domain.ChatMessage;
+import brama.pressing_api.chat.domain.ChatMessageReceipt;
+import brama.pressing_api.chat.domain.ChatMessageStatus;
+import brama.pressing_api.chat.domain.ChatReceiptMarker;
+import brama.pressing_api.chat.domain.Conversation;
+import brama.pressing_api.chat.notification.PushNotificationService;
+import brama.pressing_api.chat.repo.ChatMessageRepository;
+import brama.pressing_api.chat.repo.ConversationRepository;
+import brama.pressing_api.chat.service.impl.ChatServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import({ChatServiceImpl.class, ConversationInboxCache.class})
+class ChatReceiptWatermarkTest {
+    private static final String SENDER = "user-1";
+    private static final String RECIPIENT = "user-2";
+    private static final LocalDateTime START = LocalDateTime.of(2030, 6, 1, 9, 0);
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private ConversationRepository conversationRepository;
+
+    @MockitoSpyBean
+    private ChatMessageRepository messageRepository;
+
+    @MockitoBean
+    private UserPresenceService presenceService;
+
+    @MockitoBean
+    private PushNotificationService pushNotificationService;
+
+    @MockitoBean
+    private SimpMessagingTemplate messagingTemplate;
+
+    private Conversation conversation;
+    private int sent;
+
+    @BeforeEach
+    void seed() {
+        conversationRepository.deleteAll();
+        messageRepository.deleteAll();
+        sent = 0;
+        conversation = conversationRepository.save(Conversation.builder()
+                .participantIds(List.of(SENDER, RECIPIENT))
+                .unreadCounts(new HashMap<>())
+                .build());
+    }
+
+    @Test
+    void readRaisesEveryReceivedMessageAndMovesTheMarker() {
+        List<ChatMessage> received = List.of(send(SENDER, RECIPIENT), send(SENDER, RECIPIENT), send(SENDER, RECIPIENT));
+        ChatMessage reply = send(RECIPIENT, SENDER);
+
+        chatService.markConversationRead(conversation.getId(), RECIPIENT);
+
+        received.forEach(message -> assertThat(receipt(message, RECIPIENT)).isEqualTo(ChatMessageStatus.READ));
+        // The recipient's own reply is not theirs to acknowledge.
+        assertThat(receipt(reply, SENDER)).isEqualTo(ChatMessageStatus.SENT);
+        Conversation stored = stored();
+        assertThat(stored.getUnreadCounts()).containsEntry(RECIPIENT, 0).containsEntry(SENDER, 1);
+        ChatReceiptMarker marker = stored.getReceiptMarkers().get(RECIPIENT);
+        assertThat(marker.getLastReadMessageId()).isEqualTo(reply.getId());
+        assertThat(marker.getLastReadAt()).isNotNull();
+    }
+
+    @Test
+    void laterReadOnlyScansMessagesAfterTheMarker() {
+        send(SENDER, RECIPIENT);
+        ChatMessage watermark = send(SENDER, RECIPIENT);
+        chatService.markConversationRead(conversation.getId(), RECIPIENT);
+        LocalDateTime firstReadAt = timestamp(watermark, RECIPIENT);
+        List<ChatMessage> newer = List.of(send(SENDER, RECIPIENT), send(SENDER, RECIPIENT));
+        clearInvocations(messageRepository);
+
+        chatService.markConversationRead(conversation.getId(), RECIPIENT);
+
+        verify(messageRepository).markReceipts(eq(conversation.getId()), eq(RECIPIENT), eq(watermark.getId()),
+                eq(newer.get(1).getId()), eq(ChatMessageStatus.READ), any());
+        newer.forEach(message -> assertThat(receipt(message, RECIPIENT)).isEqualTo(ChatMessageStatus.READ));
+        assertThat(timestamp(watermark, RECIPIENT)).isEqualTo(firstReadAt);
+        assertThat(stored().getUnreadCounts()).containsEntry(RECIPIENT, 0);
+    }
+
+    @Test
+    void nothingNewSinceTheMarkerSkipsTheMessageUpdate() {
+        send(SENDER, RECIPIENT);
+        chatService.markConversationRead(conversation.getId(), RECIPIENT);
+        clearInvocations(messageRepository);
+
+        chatService.markConversationRead(conversation.getId(), RECIPIENT);
+
+        verify(messageRepository, never()).markReceipts(anyString(), anyString(), any(), anyString(), any(), any());
+    }
+
+    @Test
+    void deliveryNeverLowersAReadReceipt() {
+        ChatMessage read = send(SENDER, RECIPIENT);
+        chatService.markConversationRead(conversation.getId(), RECIPIENT);
+        ChatMessage delivered = send(SENDER, RECIPIENT);
+
+        chatService.markConversationDelivered(conversation.getId(), RECIPIENT);
+
+        assertThat(receipt(read, RECIPIENT)).isEqualTo(ChatMessageStatus.READ);
+        assertThat(receipt(delivered, RECIPIENT)).isEqualTo(ChatMessageStatus.DELIVERED);
+        ChatReceiptMarker marker = stored().getReceiptMarkers().get(RECIPIENT);
+        assertThat(marker.getLastDeliveredMessageId()).isEqualTo(delivered.getId());
+        assertThat(marker.getLastReadMessageId()).isEqualTo(read.getId());
+        assertThat(stored().getUnreadCounts()).containsEntry(RECIPIENT, 1);
+    }
+
+    private ChatMessage send(final String senderId, final String recipientId) {
+        LocalDateTime at = START.plusMinutes(sent++);
+        Map<String, ChatMessageReceipt> receipts = new HashMap<>();
+        receipts.put(senderId, ChatMessageReceipt.builder().status(ChatMessageStatus.READ).timestamp(at).build());
+        receipts.put(recipientId, ChatMessageReceipt.builder().status(ChatMessageStatus.SENT).timestamp(at).build());
+        ChatMessage message = messageRepository.save(ChatMessage.builder()
+                .conversationId(conversation.getId())
+                .senderId(senderId)
+                .recipientId(recipientId)
+                .content("message " + sent)
+                .receipts(receipts)
+                .createdDate(at)
+                .build());
+        conversationRepository.recordMessage(conversation.getId(), message.getId(), senderId, recipientId,
+                message.getContent(), at);
+        return message;
+    }
+
+    private ChatMessageStatus receipt(final ChatMessage message, final String userId) {
+        return messageRepository.findById(message.getId()).orElseThrow().getReceipts().get(userId).getStatus();
+    }
+
+    private LocalDateTime timestamp(final ChatMessage message, final String userId) {
+        return messageRepository.findById(message.getId()).orElseThrow().getReceipts().get(userId).getTimestamp();
+    }
+
+    private Conversation stored() {
+        return conversationRepository.findById(conversation.getId()).orElseThrow();
+    }
+}
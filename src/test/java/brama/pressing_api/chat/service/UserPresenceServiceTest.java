@@ -0,0 +1,95 @@
+package brama.pressing_api.chat.service;
+
+import brama.pressing_api.chat.cluster.ChatSessionDirectory;
+import brama.pressing_api.chat.domain.UserPresence;
+import brama.pressing_api.chat.repo.UserPresenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import(UserPresenceService.class)
+class UserPresenceServiceTest {
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private UserPresenceService presenceService;
+
+    @Autowired
+    private UserPresenceRepository presenceRepository;
+
+    @MockitoSpyBean
+    private MongoTemplate mongoTemplate;
+
+    @MockitoBean
+    private ChatSessionDirectory sessionDirectory;
+
+    @BeforeEach
+    void reset() {
+        doCallRealMethod().when(mongoTemplate).bulkOps(any(BulkOperations.BulkMode.class), eq(UserPresence.class));
+        presenceRepository.deleteAll();
+        when(sessionDirectory.register(anyString())).thenReturn(true);
+        when(sessionDirectory.unregister(anyString())).thenReturn(true);
+        when(sessionDirectory.findOnlineElsewhere(anyCollection())).thenReturn(Set.of());
+    }
+
+    @Test
+    void lastLocalSessionClosingKeepsAUserOnlineElsewhereOnline() {
+        presenceService.markOnline("user-1", "session-1");
+        presenceService.flush();
+        when(sessionDirectory.findOnlineElsewhere(anyCollection())).thenReturn(Set.of("user-1"));
+
+        presenceService.markOffline("user-1", "session-1");
+        presenceService.flush();
+
+        assertThat(stored("user-1").isOnline()).isTrue();
+    }
+
+    @Test
+    void failedFlushIsRetriedOnTheNextOne() {
+        presenceService.markOnline("user-1", "session-1");
+        doAnswer(invocation -> {
+            BulkOperations failing = spy((BulkOperations) invocation.callRealMethod());
+            doThrow(new DataAccessResourceFailureException("unreachable")).when(failing).execute();
+            return failing;
+        }).when(mongoTemplate).bulkOps(any(BulkOperations.BulkMode.class), eq(UserPresence.class));
+
+        assertThatThrownBy(presenceService::flush).isInstanceOf(DataAccessResourceFailureException.class);
+        doCallRealMethod().when(mongoTemplate).bulkOps(any(BulkOperations.BulkMode.class), eq(UserPresence.class));
+        presenceService.flush();
+
+        assertThat(stored("user-1").isOnline()).isTrue();
+    }
+
+    private UserPresence stored(final String userId) {
+        return presenceRepository.findByUserId(userId).orElseThrow();
+    }
+}
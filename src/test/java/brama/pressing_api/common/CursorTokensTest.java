@@ -0,0 +1,52 @@
+package brama.pressing_api.common;
+
+import brama.pressing_api.exception.BusinessException;
+import brama.pressing_api.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTokensTest {
+
+    @Test
+    void roundTripsSortKeyAndId() {
+        String token = CursorTokens.encode("2030-01-02T10:15:30", "65f0c0ffee");
+
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(CursorTokens.decode(token)).containsExactly("2030-01-02T10:15:30", "65f0c0ffee");
+    }
+
+    @Test
+    void idMayContainTheSeparator() {
+        assertThat(CursorTokens.decode(CursorTokens.encode("2030-01-02", "a,b"))).containsExactly("2030-01-02", "a,b");
+    }
+
+    @Test
+    void blankTokenMeansFirstPage() {
+        assertThat(CursorTokens.decode(null)).isNull();
+        assertThat(CursorTokens.decode("")).isNull();
+        assertThat(CursorTokens.decode("  ")).isNull();
+    }
+
+    @Test
+    void malformedTokensAreRejected() {
+        assertInvalid("not base64!");
+        assertInvalid(raw("no-separator"));
+        assertInvalid(raw(",id-only"));
+        assertInvalid(raw("key-only,"));
+    }
+
+    private static String raw(final String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertInvalid(final String token) {
+        assertThatThrownBy(() -> CursorTokens.decode(token))
+                .isInstanceOfSatisfying(BusinessException.class, ex ->
+                        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_PAGE_CURSOR));
+    }
+}
@@ -0,0 +1,83 @@
+package brama.pressing_api.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks the long arithmetic of {@link Money} against the same operations done in {@link BigDecimal}.
+ */
+class MoneyTest {
+    private static final int ROUNDS = 100_000;
+
+    private final Random random = new Random(20261018L);
+
+    @Test
+    void toMinorUnitsRoundsLikeBigDecimal() {
+        for (int i = 0; i < ROUNDS; i++) {
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong(-10_000_000_000L, 10_000_000_000L), random.nextInt(5));
+            long expected = amount.setScale(Money.SCALE, RoundingMode.HALF_UP).movePointRight(Money.SCALE).longValueExact();
+            assertThat(Money.toMinorUnits(amount)).as("%s", amount).isEqualTo(expected);
+            assertThat(Money.toBigDecimal(expected)).isEqualByComparingTo(BigDecimal.valueOf(expected, Money.SCALE));
+        }
+    }
+
+    @Test
+    void multiplyHalfUpMatchesBigDecimalDivision() {
+        for (int i = 0; i < ROUNDS; i++) {
+            long value = random.nextLong(-1_000_000_000L, 1_000_000_000L);
+            long numerator = random.nextLong(-1_000_000L, 1_000_000L);
+            long denominator = random.nextBoolean() ? random.nextLong(1L, 1_000_000L) : -random.nextLong(1L, 1_000_000L);
+            long expected = BigDecimal.valueOf(value)
+                    .multiply(BigDecimal.valueOf(numerator))
+                    .divide(BigDecimal.valueOf(denominator), 0, RoundingMode.HALF_UP)
+                    .longValueExact();
+            assertThat(Money.multiplyHalfUp(value, numerator, denominator))
+                    .as("%d * %d / %d", value, numerator, denominator)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void timesRateMatchesBigDecimalMultiplication() {
+        for (int i = 0; i < ROUNDS; i++) {
+            Money money = new Money(random.nextLong(-100_000_000L, 100_000_000L), "USD");
+            BigDecimal rate = BigDecimal.valueOf(random.nextLong(-100_000L, 100_000L), random.nextInt(6));
+            BigDecimal expected = money.toBigDecimal().multiply(rate).setScale(Money.SCALE, RoundingMode.HALF_UP);
+            assertThat(money.times(rate).toBigDecimal()).as("%s * %s", money, rate).isEqualByComparingTo(expected);
+        }
+    }
+
+    @Test
+    void sumsMatchBigDecimal() {
+        for (int i = 0; i < ROUNDS; i++) {
+            Money left = new Money(random.nextLong(-1_000_000_000L, 1_000_000_000L), "EUR");
+            Money right = new Money(random.nextLong(-1_000_000_000L, 1_000_000_000L), "EUR");
+            assertThat(left.plus(right).toBigDecimal())
+                    .isEqualByComparingTo(left.toBigDecimal().add(right.toBigDecimal()));
+            assertThat(left.minus(right).toBigDecimal())
+                    .isEqualByComparingTo(left.toBigDecimal().subtract(right.toBigDecimal()));
+            assertThat(Integer.signum(left.compareTo(right)))
+                    .isEqualTo(left.toBigDecimal().compareTo(right.toBigDecimal()));
+        }
+    }
+
+    @Test
+    void overflowIsRejected() {
+        Money max = new Money(Long.MAX_VALUE, "USD");
+        assertThatThrownBy(() -> max.plus(new Money(1L, "USD"))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> max.times(2L)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.multiplyHalfUp(Long.MAX_VALUE, 3L, 2L)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void mixingCurrenciesIsRejected() {
+        assertThatThrownBy(() -> new Money(1L, "USD").plus(new Money(1L, "EUR")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
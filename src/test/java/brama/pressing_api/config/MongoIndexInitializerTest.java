@@ -0,0 +1,30 @@
+package brama.pressing_api.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MongoIndexInitializerTest {
+
+    @Test
+    void everyListedIndexIsDeclaredOnItsEntity() {
+        MongoMappingContext context = new MongoMappingContext();
+        context.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        IndexResolver resolver = IndexResolver.create(context);
+        MongoIndexInitializer.INDEXES.forEach((type, names) -> {
+            Set<String> declared = new HashSet<>();
+            for (IndexDefinition definition : resolver.resolveIndexFor(type)) {
+                declared.add(definition.getIndexOptions().getString("name"));
+            }
+            assertThat(declared).as(type.getSimpleName()).containsAll(names);
+        });
+    }
+}
@@ -0,0 +1,120 @@
+package brama.pressing_api.idempotency.service;
+
+import brama.pressing_api.exception.BusinessException;
+import brama.pressing_api.exception.ErrorCode;
+import brama.pressing_api.idempotency.domain.model.IdempotencyRecord;
+import brama.pressing_api.idempotency.domain.model.IdempotencyStatus;
+import brama.pressing_api.idempotency.repo.IdempotencyRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import(IdempotencyService.class)
+class IdempotencyServiceTest {
+    private static final String OPERATION = "test.create";
+    private static final Map<String, String> REQUEST = Map.of("amount", "10");
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private IdempotencyRecordRepository recordRepository;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void clear() {
+        recordRepository.deleteAll();
+        executions.set(0);
+    }
+
+    @Test
+    void retryReturnsTheStoredResponseWithoutRunningAgain() {
+        String first = execute("key-1");
+        String second = execute("key-1");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void retryTakesOverAClaimWhoseLeaseRanOut() {
+        String fingerprint = claimOnAnotherInstance("key-2", Instant.now().minusSeconds(1));
+
+        assertThat(execute("key-2")).isEqualTo("created-1");
+        IdempotencyRecord record = recordRepository.findById(recordId("key-2")).orElseThrow();
+        assertThat(record.getFingerprint()).isEqualTo(fingerprint);
+        assertThat(record.getStatus()).isEqualTo(IdempotencyStatus.COMPLETED);
+    }
+
+    @Test
+    void duplicateOfALeasedClaimIsRejectedWithoutWaiting() {
+        claimOnAnotherInstance("key-3", Instant.now().plus(Duration.ofMinutes(1)));
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> execute("key-3"))
+                .isInstanceOfSatisfying(BusinessException.class, ex ->
+                        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS));
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    void failedRequestReleasesTheKey() {
+        assertThatThrownBy(() -> idempotencyService.execute(OPERATION, "key-4", REQUEST, String.class, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(recordRepository.existsById(recordId("key-4"))).isFalse();
+        assertThat(execute("key-4")).isEqualTo("created-1");
+    }
+
+    private String execute(final String key) {
+        return idempotencyService.execute(OPERATION, key, REQUEST, String.class,
+                () -> "created-" + executions.incrementAndGet());
+    }
+
+    /**
+     * Stores the IN_PROGRESS record another instance would leave behind, with the fingerprint this test's request
+     * produces, taken from a completed run under a scratch key.
+     */
+    private String claimOnAnotherInstance(final String key, final Instant lockedUntil) {
+        idempotencyService.execute(OPERATION, "scratch", REQUEST, String.class, () -> "scratch");
+        String fingerprint = recordRepository.findById(recordId("scratch")).orElseThrow().getFingerprint();
+        recordRepository.save(IdempotencyRecord.builder()
+                .id(recordId(key))
+                .fingerprint(fingerprint)
+                .status(IdempotencyStatus.IN_PROGRESS)
+                .lockedUntil(lockedUntil)
+                .expiresAt(Instant.now().plus(Duration.ofHours(1)))
+                .build());
+        return fingerprint;
+    }
+
+    private static String recordId(final String key) {
+        return OPERATION + ":anonymous:" + key;
+    }
+}
@@ -0,0 +1,164 @@
+package brama.pressing_api.pricing.service;
+
+import brama.pressing_api.booking.domain.model.BookingExtra;
+import brama.pressing_api.booking.domain.model.BookingPricing;
+import brama.pressing_api.config.PricingProperties;
+import brama.pressing_api.vehicle.domain.model.Vehicle;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Compares the long minor-unit pipeline with a straightforward BigDecimal evaluation of the same rules.
+ */
+class PricingPipelineTest {
+    private static final BigDecimal TAX_RATE = new BigDecimal("0.2");
+    private static final BigDecimal FEES = new BigDecimal("5.00");
+    private static final BigDecimal WEEKEND = new BigDecimal("1.25");
+    private static final BigDecimal SUMMER = new BigDecimal("1.2");
+    private static final BigDecimal AIRPORT = new BigDecimal("12.50");
+
+    private final PricingPipeline pipeline = PricingPipeline.compile(properties());
+    private final Random random = new Random(20261018L);
+
+    @Test
+    void quotesMatchBigDecimalReference() {
+        for (int i = 0; i < 20_000; i++) {
+            Vehicle vehicle = randomVehicle();
+            LocalDate startDate = LocalDate.of(2023, 1, 1).plusDays(random.nextInt(4 * 366));
+            LocalDate endDate = startDate.plusDays(1 + random.nextInt(90));
+            List<BookingExtra> extras = random.nextBoolean()
+                    ? List.of(new BookingExtra("seat", amount(1, 30), 1 + random.nextInt(3)))
+                    : List.of();
+            String location = random.nextBoolean() ? "airport" : null;
+            DiscountPolicy discount = random.nextBoolean()
+                    ? DiscountPolicy.NONE
+                    : subtotal -> subtotal.multiply(new BigDecimal("0.15")).setScale(2, RoundingMode.HALF_UP);
+
+            BookingPricing pricing = pipeline.quote(
+                    new PricingInput(vehicle, startDate, endDate, extras, location), discount);
+
+            BigDecimal expected = referenceTotal(vehicle, startDate, endDate, extras, location, discount);
+            assertThat(pricing.getTotal())
+                    .as("daily %s weekly %s monthly %s from %s to %s", vehicle.getDailyRate(),
+                            vehicle.getWeeklyRate(), vehicle.getMonthlyRate(), startDate, endDate)
+                    .isEqualByComparingTo(expected);
+        }
+    }
+
+    @Test
+    void plainDailyRateWithoutRules() {
+        PricingPipeline plain = PricingPipeline.compile(new PricingProperties());
+        Vehicle vehicle = Vehicle.builder().dailyRate(new BigDecimal("49.99")).build();
+
+        BookingPricing pricing = plain.quote(new PricingInput(vehicle, LocalDate.of(2030, 3, 4),
+                LocalDate.of(2030, 3, 7), List.of(), null), DiscountPolicy.NONE);
+
+        assertThat(pricing.getDays()).isEqualTo(3);
+        assertThat(pricing.getTotal()).isEqualByComparingTo("149.97");
+    }
+
+    @Test
+    void overflowingRatesAreRejected() {
+        Vehicle vehicle = Vehicle.builder()
+                .dailyRate(new BigDecimal("90000000000000000"))
+                .weeklyRate(new BigDecimal("90000000000000000"))
+                .build();
+
+        assertThatThrownBy(() -> pipeline.quote(new PricingInput(vehicle, LocalDate.of(2030, 3, 4),
+                LocalDate.of(2030, 3, 30), List.of(), null), DiscountPolicy.NONE))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    private BigDecimal referenceTotal(final Vehicle vehicle,
+                                      final LocalDate startDate,
+                                      final LocalDate endDate,
+                                      final List<BookingExtra> extras,
+                                      final String location,
+                                      final DiscountPolicy discountPolicy) {
+        int days = (int) ChronoUnit.DAYS.between(startDate, endDate);
+        BigDecimal multipliers = BigDecimal.ZERO;
+        for (LocalDate day = startDate; day.isBefore(endDate); day = day.plusDays(1)) {
+            BigDecimal multiplier = BigDecimal.ONE;
+            if (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                multiplier = multiplier.multiply(WEEKEND);
+            }
+            if (day.getMonth() == Month.JULY || day.getMonth() == Month.AUGUST) {
+                multiplier = multiplier.multiply(SUMMER);
+            }
+            multipliers = multipliers.add(multiplier);
+        }
+        BigDecimal base = tieredBase(vehicle, days)
+                .multiply(multipliers)
+                .divide(BigDecimal.valueOf(days), 2, RoundingMode.HALF_UP);
+
+        BigDecimal extrasTotal = BigDecimal.ZERO;
+        for (BookingExtra extra : extras) {
+            extrasTotal = extrasTotal.add(extra.getPricePerDay()
+                    .multiply(BigDecimal.valueOf(extra.getQuantity()))
+                    .multiply(BigDecimal.valueOf(days)));
+        }
+        BigDecimal subtotal = base.add(extrasTotal);
+        BigDecimal discount = discountPolicy.discountFor(subtotal).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal taxable = subtotal.subtract(discount).max(BigDecimal.ZERO);
+        BigDecimal taxes = taxable.multiply(TAX_RATE).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal fees = location != null ? FEES.add(AIRPORT) : FEES;
+        return taxable.add(taxes).add(fees);
+    }
+
+    private BigDecimal tieredBase(final Vehicle vehicle, final int days) {
+        if (vehicle.getMonthlyRate() == null) {
+            return weeklyBase(vehicle, days);
+        }
+        return vehicle.getMonthlyRate().multiply(BigDecimal.valueOf(days / 30))
+                .add(weeklyBase(vehicle, days % 30).min(vehicle.getMonthlyRate()));
+    }
+
+    private BigDecimal weeklyBase(final Vehicle vehicle, final int days) {
+        if (vehicle.getWeeklyRate() == null) {
+            return vehicle.getDailyRate().multiply(BigDecimal.valueOf(days));
+        }
+        return vehicle.getWeeklyRate().multiply(BigDecimal.valueOf(days / 7))
+                .add(vehicle.getDailyRate().multiply(BigDecimal.valueOf(days % 7)).min(vehicle.getWeeklyRate()));
+    }
+
+    private Vehicle randomVehicle() {
+        BigDecimal daily = amount(20, 300);
+        return Vehicle.builder()
+                .dailyRate(daily)
+                .weeklyRate(random.nextBoolean() ? daily.multiply(BigDecimal.valueOf(6)) : null)
+                .monthlyRate(random.nextBoolean() ? daily.multiply(BigDecimal.valueOf(22)) : null)
+                .build();
+    }
+
+    private BigDecimal amount(final int min, final int max) {
+        return BigDecimal.valueOf(min * 100L + random.nextInt((max - min) * 100), 2);
+    }
+
+    private static PricingProperties properties() {
+        PricingProperties.Season summer = new PricingProperties.Season();
+        summer.setName("summer");
+        summer.setFrom("07-01");
+        summer.setTo("08-31");
+        summer.setMultiplier(SUMMER);
+
+        PricingProperties properties = new PricingProperties();
+        properties.setTaxRate(TAX_RATE);
+        properties.setFees(FEES);
+        properties.setWeekendMultiplier(WEEKEND);
+        properties.setSeasons(List.of(summer));
+        properties.setLocationSurcharges(Map.of("airport", AIRPORT));
+        return properties;
+    }
+}
@@ -0,0 +1,119 @@
+package brama.pressing_api.pricing.service;
+
+import brama.pressing_api.config.PricingProperties;
+import brama.pressing_api.exception.BusinessException;
+import brama.pressing_api.exception.ErrorCode;
+import brama.pressing_api.pricing.dto.request.QuoteRequest;
+import brama.pressing_api.pricing.dto.response.VehicleQuoteResponse;
+import brama.pressing_api.pricing.service.impl.QuoteServiceImpl;
+import brama.pressing_api.promotion.service.PromotionService;
+import brama.pressing_api.vehicle.domain.model.Vehicle;
+import brama.pressing_api.vehicle.domain.model.VehicleStatus;
+import brama.pressing_api.vehicle.repo.VehicleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class QuoteServiceTest {
+    private static final LocalDate START = LocalDate.of(2030, 3, 4);
+
+    private final VehicleRepository vehicleRepository = mock(VehicleRepository.class);
+    private final PromotionService promotionService = mock(PromotionService.class);
+    private final PricingProperties properties = new PricingProperties();
+    private final QuoteService quoteService = new QuoteServiceImpl(vehicleRepository, promotionService,
+            new PricingEngine(properties), properties);
+
+    @BeforeEach
+    void stubPromotion() {
+        when(promotionService.resolveDiscountPolicy(any())).thenReturn(DiscountPolicy.NONE);
+    }
+
+    @Test
+    void quotesEveryPriceableVehicleOnceInRequestOrder() {
+        when(vehicleRepository.findAllById(any())).thenReturn(List.of(
+                vehicle("a", "40.00", VehicleStatus.AVAILABLE),
+                vehicle("b", "55.50", VehicleStatus.AVAILABLE),
+                vehicle("inactive", "30.00", VehicleStatus.INACTIVE),
+                vehicle("maintenance", "30.00", VehicleStatus.MAINTENANCE),
+                vehicle("unpriced", null, VehicleStatus.AVAILABLE)));
+
+        List<VehicleQuoteResponse> quotes = quoteService.quote(request(
+                List.of("b", "missing", "a", "inactive", "b", "maintenance", "unpriced"), START.plusDays(3)));
+
+        assertThat(quotes).extracting(VehicleQuoteResponse::getVehicleId).containsExactly("b", "a");
+        assertThat(quotes.get(0).getPricing().getTotal()).isEqualByComparingTo("166.50");
+        assertThat(quotes.get(1).getPricing().getTotal()).isEqualByComparingTo("120.00");
+        assertThat(quotes).allSatisfy(quote -> assertThat(quote.getPricing().getDays()).isEqualTo(3));
+    }
+
+    @Test
+    void promoCodeIsResolvedOnceAndAppliedToEachVehicle() {
+        when(vehicleRepository.findAllById(any())).thenReturn(List.of(
+                vehicle("a", "40.00", VehicleStatus.AVAILABLE),
+                vehicle("b", "55.50", VehicleStatus.AVAILABLE)));
+        when(promotionService.resolveDiscountPolicy("SPRING")).thenReturn(subtotal -> new BigDecimal("10.00"));
+        QuoteRequest request = request(List.of("a", "b"), START.plusDays(3));
+        request.setPromoCode("SPRING");
+
+        List<VehicleQuoteResponse> quotes = quoteService.quote(request);
+
+        assertThat(quotes).extracting(quote -> quote.getPricing().getTotal())
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("110.00"), new BigDecimal("156.50"));
+        verify(promotionService).resolveDiscountPolicy("SPRING");
+    }
+
+    @Test
+    void spanUpToTheRentalCapIsQuoted() {
+        when(vehicleRepository.findAllById(any())).thenReturn(List.of(vehicle("a", "40.00", VehicleStatus.AVAILABLE)));
+
+        List<VehicleQuoteResponse> quotes = quoteService.quote(
+                request(List.of("a"), START.plusDays(properties.getMaxRentalDays())));
+
+        assertThat(quotes).singleElement()
+                .satisfies(quote -> assertThat(quote.getPricing().getDays()).isEqualTo(properties.getMaxRentalDays()));
+    }
+
+    @Test
+    void spanBeyondTheRentalCapIsRejectedBeforeAnyLookup() {
+        assertThatThrownBy(() -> quoteService.quote(
+                request(List.of("a"), START.plusDays(properties.getMaxRentalDays() + 1L))))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        ex -> assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.RENTAL_PERIOD_TOO_LONG));
+        verifyNoInteractions(vehicleRepository, promotionService);
+    }
+
+    @Test
+    void endDateMustFollowStartDate() {
+        assertThatThrownBy(() -> quoteService.quote(request(List.of("a"), START)))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        ex -> assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_DATE_RANGE));
+    }
+
+    private static QuoteRequest request(final List<String> vehicleIds, final LocalDate endDate) {
+        return QuoteRequest.builder()
+                .vehicleIds(vehicleIds)
+                .startDate(START)
+                .endDate(endDate)
+                .build();
+    }
+
+    private static Vehicle vehicle(final String id, final String dailyRate, final VehicleStatus status) {
+        return Vehicle.builder()
+                .id(id)
+                .dailyRate(dailyRate == null ? null : new BigDecimal(dailyRate))
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package brama.pressing_api.promotion.repo;
+
+import brama.pressing_api.promotion.domain.model.DiscountType;
+import brama.pressing_api.promotion.domain.model.Promotion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.mongodb.core.query.Update;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+class PromotionRepositoryConcurrencyTest {
+    private static final LocalDate TODAY = LocalDate.of(2030, 5, 15);
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private PromotionRepository promotionRepository;
+
+    @BeforeEach
+    void clear() {
+        promotionRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentRedemptionsStopAtTheLimitWhileTheAdminEdits() throws Exception {
+        Promotion promotion = promotionRepository.save(promotion("SPRING", 10, true, null));
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> redemptions = new ArrayList<>();
+        List<Future<?>> edits = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            redemptions.add(executor.submit(awaiting(start,
+                    () -> promotionRepository.tryRedeem(promotion.getId(), TODAY))));
+            String description = "edit " + i;
+            edits.add(executor.submit(awaiting(start, () -> promotionRepository.updateFields(promotion.getId(),
+                    new Update().set("description", description)))));
+        }
+        start.countDown();
+
+        int redeemed = 0;
+        for (Future<Boolean> redemption : redemptions) {
+            if (redemption.get(1, TimeUnit.MINUTES)) {
+                redeemed++;
+            }
+        }
+        for (Future<?> edit : edits) {
+            edit.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertThat(redeemed).isEqualTo(10);
+        assertThat(promotionRepository.findById(promotion.getId()).orElseThrow().getUsageCount()).isEqualTo(10);
+    }
+
+    @Test
+    void redemptionRechecksActiveFlagAndValidity() {
+        Promotion inactive = promotionRepository.save(promotion("OFF", null, false, null));
+        Promotion expired = promotionRepository.save(promotion("OLD", null, true, TODAY.minusDays(1)));
+        Promotion valid = promotionRepository.save(promotion("NOW", null, true, TODAY));
+
+        assertThat(promotionRepository.tryRedeem(inactive.getId(), TODAY)).isFalse();
+        assertThat(promotionRepository.tryRedeem(expired.getId(), TODAY)).isFalse();
+        assertThat(promotionRepository.tryRedeem(valid.getId(), TODAY)).isTrue();
+    }
+
+    @Test
+    void releaseNeverGoesBelowZero() {
+        Promotion promotion = promotionRepository.save(promotion("ONCE", 1, true, null));
+
+        assertThat(promotionRepository.tryRedeem(promotion.getId(), TODAY)).isTrue();
+        promotionRepository.releaseRedemption(promotion.getId());
+        promotionRepository.releaseRedemption(promotion.getId());
+
+        assertThat(promotionRepository.findById(promotion.getId()).orElseThrow().getUsageCount()).isZero();
+    }
+
+    private static <T> Callable<T> awaiting(final CountDownLatch start, final Callable<T> task) {
+        return () -> {
+            start.await();
+            return task.call();
+        };
+    }
+
+    private static Promotion promotion(final String code,
+                                       final Integer maxRedemptions,
+                                       final boolean active,
+                                       final LocalDate validUntil) {
+        return Promotion.builder()
+                .code(code)
+                .discountType(DiscountType.PERCENTAGE)
+                .value(BigDecimal.TEN)
+                .validFrom(TODAY.minusDays(30))
+                .validUntil(validUntil)
+                .maxRedemptions(maxRedemptions)
+                .usageCount(0)
+                .active(active)
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package brama.pressing_api.reservation.service;
+
+import brama.pressing_api.common.CursorTokens;
+import brama.pressing_api.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReservationTimelineCursorTest {
+
+    @Test
+    void cursorRoundTripsDatedAndUndatedEntries() {
+        ReservationTimelineCursor dated = new ReservationTimelineCursor(LocalDate.of(2030, 4, 1), "65f0c0ffee");
+        ReservationTimelineCursor undated = new ReservationTimelineCursor(null, "65f0c0ffee");
+
+        assertThat(ReservationTimelineCursor.decode(dated.encode())).isEqualTo(dated);
+        assertThat(ReservationTimelineCursor.decode(undated.encode())).isEqualTo(undated);
+        assertThat(ReservationTimelineCursor.decode(null)).isNull();
+    }
+
+    @Test
+    void cursorRejectsAMalformedDate() {
+        assertThatThrownBy(() -> ReservationTimelineCursor.decode(CursorTokens.encode("2030-04-01T10:00", "id")))
+                .isInstanceOf(BusinessException.class);
+    }
+}
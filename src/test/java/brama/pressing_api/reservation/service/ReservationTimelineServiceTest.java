@@ -0,0 +1,122 @@
+package brama.pressing_api.reservation.service;
+
+import brama.pressing_api.booking.domain.model.Booking;
+import brama.pressing_api.circuit.domain.CircuitBooking;
+import brama.pressing_api.common.CursorPageResponse;
+import brama.pressing_api.config.MongoIndexInitializer;
+import brama.pressing_api.excursionbooking.domain.model.ExcursionBooking;
+import brama.pressing_api.reservation.dto.response.ReservationTimelineItemResponse;
+import brama.pressing_api.reservation.service.impl.ReservationTimelineServiceImpl;
+import brama.pressing_api.scheduling.service.SchedulerLockService;
+import brama.pressing_api.user.User;
+import brama.pressing_api.utils.EmailKeys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import({ReservationTimelineServiceImpl.class, GuestEmailKeyBackfill.class, SchedulerLockService.class,
+        MongoIndexInitializer.class})
+class ReservationTimelineServiceTest {
+    private static final String USER_ID = "user-1";
+    private static final String EMAIL = "Guest@Example.com";
+    private static final LocalDate DAY = LocalDate.of(2030, 4, 1);
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private ReservationTimelineService timelineService;
+
+    @Autowired
+    private GuestEmailKeyBackfill backfill;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    // Ids the user should see, newest first with undated reservations last.
+    private final List<String> expected = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        mongoTemplate.remove(new Query(), Booking.class);
+        mongoTemplate.remove(new Query(), ExcursionBooking.class);
+        mongoTemplate.remove(new Query(), CircuitBooking.class);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                User.builder().id(USER_ID).email(EMAIL).build(), null, List.of()));
+
+        Map<LocalDate, List<String>> byDate = new TreeMap<>(Comparator.reverseOrder());
+        List<String> undated = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            LocalDate date = DAY.plusDays(i % 2);
+            Booking car = mongoTemplate.insert(Booking.builder().userId(USER_ID).startDate(date).build());
+            byDate.computeIfAbsent(date, key -> new ArrayList<>()).add(car.getId());
+
+            ExcursionBooking owned = mongoTemplate.insert(ExcursionBooking.builder()
+                    .userId(USER_ID).selectedDate(date).build());
+            byDate.get(date).add(owned.getId());
+
+            // Written before customer_email_key existed; the backfill makes it visible.
+            ExcursionBooking legacyGuest = mongoTemplate.insert(ExcursionBooking.builder()
+                    .customerEmail(" GUEST@example.com").selectedDate(date).build());
+            byDate.get(date).add(legacyGuest.getId());
+
+            CircuitBooking guestUndated = mongoTemplate.insert(CircuitBooking.builder()
+                    .customerEmail(EMAIL).customerEmailKey(EmailKeys.of(EMAIL)).build());
+            undated.add(guestUndated.getId());
+
+            mongoTemplate.insert(CircuitBooking.builder()
+                    .customerEmail("someone@else.com").customerEmailKey("someone@else.com").selectedDate(date).build());
+            mongoTemplate.insert(ExcursionBooking.builder()
+                    .userId("user-2").customerEmail(EMAIL).customerEmailKey(EmailKeys.of(EMAIL))
+                    .selectedDate(date).build());
+        }
+        expected.clear();
+        byDate.values().forEach(ids -> ids.stream().sorted(Comparator.reverseOrder()).forEach(expected::add));
+        undated.stream().sorted(Comparator.reverseOrder()).forEach(expected::add);
+        backfill.backfill();
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void pagesWalkTheMergedTimelineInOrderIncludingUndatedEntries() {
+        List<String> seen = new ArrayList<>();
+        String after = null;
+        int pages = 0;
+        do {
+            CursorPageResponse<ReservationTimelineItemResponse> page = timelineService.listMyTimeline(after, 5);
+            page.getContent().forEach(item -> seen.add(item.getId()));
+            after = page.getNextCursor();
+            pages++;
+            assertThat(page.isHasNext()).isEqualTo(after != null);
+        } while (after != null && pages < 20);
+
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+}
@@ -0,0 +1,131 @@
+package brama.pressing_api.vehicle.repo;
+
+import brama.pressing_api.booking.domain.model.Booking;
+import brama.pressing_api.booking.domain.model.BookingStatus;
+import brama.pressing_api.booking.service.BookingAvailabilityIndex;
+import brama.pressing_api.config.MongoIndexInitializer;
+import brama.pressing_api.vehicle.domain.model.Vehicle;
+import brama.pressing_api.vehicle.service.VehicleSearchCriteria;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import(MongoIndexInitializer.class)
+class VehicleRepositoryAvailabilityTest {
+    private static final int VEHICLES = 50;
+    private static final int PAST_BOOKINGS_PER_VEHICLE = 40;
+    private static final LocalDate FROM = LocalDate.of(2030, 6, 10);
+    private static final LocalDate TO = LocalDate.of(2030, 6, 14);
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private final Set<String> blockedVehicleIds = new HashSet<>();
+
+    @BeforeEach
+    void seed() {
+        mongoTemplate.dropCollection(Vehicle.class);
+        mongoTemplate.remove(new Query(), Booking.class);
+        blockedVehicleIds.clear();
+
+        List<Booking> bookings = new ArrayList<>();
+        for (int v = 0; v < VEHICLES; v++) {
+            Vehicle vehicle = mongoTemplate.insert(Vehicle.builder().make("Make").model("Model-" + v).build());
+            for (int b = 0; b < PAST_BOOKINGS_PER_VEHICLE; b++) {
+                LocalDate start = FROM.minusYears(1).plusDays(b * 5L);
+                bookings.add(booking(vehicle.getId(), start, start.plusDays(3), BookingStatus.COMPLETED));
+            }
+            if (v % 3 == 0) {
+                bookings.add(booking(vehicle.getId(), FROM.minusDays(2), FROM, BookingStatus.PENDING));
+                blockedVehicleIds.add(vehicle.getId());
+            } else if (v % 3 == 1) {
+                bookings.add(booking(vehicle.getId(), FROM.plusDays(1), TO.plusDays(1), BookingStatus.CANCELED));
+            }
+        }
+        mongoTemplate.insertAll(bookings);
+    }
+
+    @Test
+    void searchSkipsVehiclesWithAnOverlappingBlockingBooking() {
+        Page<Vehicle> page = vehicleRepository.search(criteria(), PageRequest.of(0, VEHICLES));
+
+        assertThat(page.getTotalElements()).isEqualTo(VEHICLES - blockedVehicleIds.size());
+        assertThat(page.getContent()).extracting(Vehicle::getId).doesNotContainAnyElementsOf(blockedVehicleIds);
+    }
+
+    /**
+     * Stands in for a benchmark: without an index each vehicle scans the whole bookings collection
+     * ({@code VEHICLES * PAST_BOOKINGS_PER_VEHICLE} documents per vehicle); with the join on
+     * {@code vehicle_status_dates_idx} only overlapping bookings are fetched.
+     */
+    @Test
+    void bookingLookupUsesTheVehicleStatusDatesIndex() {
+        VehicleRepositoryImpl repository = new VehicleRepositoryImpl(mongoTemplate);
+        List<Document> pipeline = Aggregation.newAggregation(
+                        repository.excludeBlocked(FROM, TO, BookingAvailabilityIndex.BLOCKING_STATUSES))
+                .toPipeline(Aggregation.DEFAULT_CONTEXT);
+
+        Document explain = mongoTemplate.getDb().runCommand(new Document("explain",
+                        new Document("aggregate", mongoTemplate.getCollectionName(Vehicle.class))
+                                .append("pipeline", pipeline)
+                                .append("cursor", new Document()))
+                .append("verbosity", "executionStats"));
+
+        Document lookup = explain.getList("stages", Document.class).stream()
+                .filter(stage -> stage.containsKey("$lookup"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(lookup.getList("indexesUsed", String.class)).containsExactly("vehicle_status_dates_idx");
+        assertThat(((Number) lookup.get("collectionScans")).longValue()).isZero();
+        assertThat(((Number) lookup.get("totalDocsExamined")).longValue()).isLessThanOrEqualTo(VEHICLES);
+    }
+
+    private VehicleSearchCriteria criteria() {
+        return VehicleSearchCriteria.builder()
+                .startDate(FROM)
+                .endDate(TO)
+                .blockingStatuses(BookingAvailabilityIndex.BLOCKING_STATUSES)
+                .build();
+    }
+
+    private static Booking booking(final String vehicleId,
+                                   final LocalDate startDate,
+                                   final LocalDate endDate,
+                                   final BookingStatus status) {
+        return Booking.builder()
+                .vehicleId(vehicleId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .status(status)
+                .build();
+    }
+}